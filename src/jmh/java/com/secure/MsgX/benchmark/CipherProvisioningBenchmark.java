@@ -0,0 +1,94 @@
+package com.secure.MsgX.benchmark;
+
+import com.secure.MsgX.core.enums.EncryptionAlgo;
+import com.secure.MsgX.features.utility.commonUtil.CryptoEnginePool;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Security;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the pooled engines in {@link CryptoEnginePool} with the previous
+ * {@code getInstance}-per-call path. Runs on all cores so provider lock contention is visible.
+ * PBKDF2 itself is excluded: only engine acquisition plus one GCM operation is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(Threads.MAX)
+public class CipherProvisioningBenchmark {
+
+    @Param({"AES_256", "CHACHA20", "TWOFISH"})
+    private EncryptionAlgo algorithm;
+
+    @Param({"1024"})
+    private int payloadSize;
+
+    private CryptoEnginePool enginePool;
+    private SecretKey key;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() {
+        Security.addProvider(new BouncyCastleProvider());
+        enginePool = new CryptoEnginePool();
+        byte[] keyBytes = new byte[algorithm.getKeyLength()];
+        ThreadLocalRandom.current().nextBytes(keyBytes);
+        key = new SecretKeySpec(keyBytes, "AES");
+        payload = new byte[payloadSize];
+        ThreadLocalRandom.current().nextBytes(payload);
+    }
+
+    @Benchmark
+    public byte[] cipherGetInstancePerCall() throws Exception {
+        Cipher cipher = Cipher.getInstance(algorithm.getTransformation(), "BC");
+        cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, freshIv()));
+        return cipher.doFinal(payload);
+    }
+
+    @Benchmark
+    public byte[] cipherPooled() throws Exception {
+        byte[] iv = freshIv();
+        return enginePool.withCipher(algorithm, cipher -> {
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(128, iv));
+            return cipher.doFinal(payload);
+        });
+    }
+
+    @Benchmark
+    public SecretKeyFactory keyFactoryGetInstancePerCall() throws Exception {
+        return SecretKeyFactory.getInstance(CryptoEnginePool.KEY_FACTORY_ALGORITHM);
+    }
+
+    @Benchmark
+    public SecretKeyFactory keyFactoryPooled() throws Exception {
+        return enginePool.withKeyFactory(factory -> factory);
+    }
+
+    private static byte[] freshIv() {
+        byte[] iv = new byte[12];
+        ThreadLocalRandom.current().nextBytes(iv);
+        return iv;
+    }
+}
@@ -0,0 +1,69 @@
+package com.secure.MsgX.benchmark;
+
+import com.secure.MsgX.core.enums.EncryptionAlgo;
+import com.secure.MsgX.features.utility.commonUtil.CryptoService;
+import com.secure.MsgX.features.utility.commonUtil.SealedEnvelope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * End-to-end {@code encryptContent} / {@code decryptContent} as called on ticket creation and single-ticket views:
+ * PBKDF2 derivation from the passkeys plus one cipher operation. The full matrix runs for a long time; narrow it
+ * with {@code -p}, e.g. {@code -Djmh.args="CryptoServiceBenchmark -p payloadSize=100,1048576 -p passkeyCount=1"}.
+ * {@link PayloadCipherBenchmark} measures the cipher alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CryptoServiceBenchmark {
+
+    @Param({"AES_256", "CHACHA20", "TWOFISH"})
+    private EncryptionAlgo algorithm;
+
+    @Param({"100", "10240", "1048576", "10485760"})
+    private int payloadSize;
+
+    @Param({"1", "3", "10"})
+    private int passkeyCount;
+
+    private CryptoService cryptoService;
+    private List<String> passkeys;
+    private String salt;
+    private String plainText;
+    private SealedEnvelope envelope;
+
+    @Setup
+    public void setUp() {
+        cryptoService = new CryptoService();
+        passkeys = IntStream.rangeClosed(1, passkeyCount).mapToObj(i -> "passkey-" + i + "-" + "x".repeat(12)).toList();
+        salt = cryptoService.generateSalt();
+        plainText = Payloads.text(payloadSize);
+        envelope = cryptoService.encryptContent(plainText, passkeys, salt, algorithm);
+    }
+
+    @Benchmark
+    public SealedEnvelope encryptContent() {
+        return cryptoService.encryptContent(plainText, passkeys, salt, algorithm);
+    }
+
+    @Benchmark
+    public String decryptContent() {
+        return cryptoService.decryptContent(envelope.cipherText(), passkeys, salt, envelope.iv(), algorithm);
+    }
+}
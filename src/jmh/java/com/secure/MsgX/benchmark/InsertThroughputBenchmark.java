@@ -0,0 +1,170 @@
+package com.secure.MsgX.benchmark;
+
+import com.secure.MsgX.core.entity.id.TimeOrderedUuidGenerator;
+import com.secure.MsgX.features.utility.ticketCreateUtil.UniqueIdGenerators.SnowflakeIdGenerator;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Ticket creation write throughput: one ticket with its passkeys and replies per operation, committed in
+ * transactions of {@value #TICKETS_PER_TRANSACTION} tickets.
+ * <ul>
+ *     <li>{@code idScheme} - RANDOM (UUIDv4 everywhere) or TIME_ORDERED (UUIDv7 for passkeys and replies; ticket ids
+ *     stay UUIDv4 as in the service, because they are the revoke credential)</li>
+ *     <li>{@code batched} - one round trip per row, or JDBC batches rewritten into multi-row INSERTs</li>
+ * </ul>
+ * Needs a PostgreSQL migrated to V9 (uuid keys, reply_seq), reached through DB_URL / DB_USERNAME / DB_PASSWORD.
+ * The id scheme mostly matters once the key indexes outgrow shared_buffers, so compare long runs.
+ * Inserted rows (ticket_number INS-...) are removed at the end of each trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+@Threads(4)
+public class InsertThroughputBenchmark {
+
+    private static final int TICKETS_PER_TRANSACTION = 50;
+
+    private static final String INSERT_TICKET = "INSERT INTO ticket (ticket_id, ticket_number, created_at, ticket_status, " +
+            "encryption_algo, ticket_type, max_views, count_views, allow_replies, salt, encrypted_message, initialization_vector) " +
+            "VALUES (?, ?, ?, 'OPEN', 'AES_256', 'THREAD', 100, 0, true, ?, ?, ?)";
+    private static final String INSERT_PASSKEY = "INSERT INTO passkey (passkey_id, passkey_hash, key_order, ticket_id) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_REPLY = "INSERT INTO reply (reply_id, reply_seq, created_at, encrypted_content, initialization_vector, ticket_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    // Sizes of the Base64 fields the service stores for a short message
+    private static final String SALT = "c2FsdHNhbHRzYWx0c2FsdA==";
+    private static final String IV = "aXZpdml2aXZpdml2";
+    private static final String CIPHER_TEXT = "Y2lwaGVy".repeat(24);
+    private static final String PASSKEY_HASH = "$argon2id$v=19$m=16384,t=2,p=1$" + "aGFzaA".repeat(12);
+
+    public enum IdScheme { RANDOM, TIME_ORDERED }
+
+    @Param({"RANDOM", "TIME_ORDERED"})
+    private IdScheme idScheme;
+
+    @Param({"false", "true"})
+    private boolean batched;
+
+    @Param({"3"})
+    private int passkeysPerTicket;
+
+    @Param({"5"})
+    private int repliesPerTicket;
+
+    private HikariDataSource dataSource;
+    private final AtomicLong sequence = new AtomicLong();
+    // Inserted tickets are new, so a fixed worker id cannot collide within (ticket_id, reply_seq)
+    private final SnowflakeIdGenerator replySeq = new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_MACHINE_ID);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(System.getenv("DB_URL"));
+        config.setUsername(System.getenv("DB_USERNAME"));
+        config.setPassword(System.getenv("DB_PASSWORD"));
+        config.setMaximumPoolSize(4);
+        config.setAutoCommit(false);
+        config.addDataSourceProperty("reWriteBatchedInserts", "true");
+        dataSource = new HikariDataSource(config);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            String tickets = "SELECT ticket_id FROM ticket WHERE ticket_number LIKE 'INS-%'";
+            statement.executeUpdate("DELETE FROM reply WHERE ticket_id IN (" + tickets + ")");
+            statement.executeUpdate("DELETE FROM passkey WHERE ticket_id IN (" + tickets + ")");
+            statement.executeUpdate("DELETE FROM ticket WHERE ticket_number LIKE 'INS-%'");
+            connection.commit();
+        }
+        dataSource.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TICKETS_PER_TRANSACTION)
+    public void createTickets() throws SQLException {
+        Timestamp now = Timestamp.from(Instant.now());
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ticket = connection.prepareStatement(INSERT_TICKET);
+             PreparedStatement passkey = connection.prepareStatement(INSERT_PASSKEY);
+             PreparedStatement reply = connection.prepareStatement(INSERT_REPLY)) {
+            for (int t = 0; t < TICKETS_PER_TRANSACTION; t++) {
+                UUID ticketId = UUID.randomUUID();
+                ticket.setObject(1, ticketId);
+                ticket.setString(2, "INS-" + sequence.incrementAndGet());
+                ticket.setTimestamp(3, now);
+                ticket.setString(4, SALT);
+                ticket.setString(5, CIPHER_TEXT);
+                ticket.setString(6, IV);
+                execute(ticket);
+
+                for (int k = 1; k <= passkeysPerTicket; k++) {
+                    passkey.setObject(1, nextId());
+                    passkey.setString(2, PASSKEY_HASH);
+                    passkey.setInt(3, k);
+                    passkey.setObject(4, ticketId);
+                    execute(passkey);
+                }
+                for (int r = 0; r < repliesPerTicket; r++) {
+                    reply.setObject(1, nextId());
+                    reply.setLong(2, replySeq.generateId());
+                    reply.setTimestamp(3, now);
+                    reply.setString(4, CIPHER_TEXT);
+                    reply.setString(5, IV);
+                    reply.setObject(6, ticketId);
+                    execute(reply);
+                }
+            }
+            if (batched) {
+                // Parents first so the foreign keys are satisfied, as hibernate.order_inserts arranges it
+                ticket.executeBatch();
+                passkey.executeBatch();
+                reply.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
+    private void execute(PreparedStatement statement) throws SQLException {
+        if (batched) {
+            statement.addBatch();
+        }
+        else {
+            statement.executeUpdate();
+        }
+    }
+
+    private UUID nextId() {
+        return idScheme == IdScheme.TIME_ORDERED ? TimeOrderedUuidGenerator.nextUuid() : UUID.randomUUID();
+    }
+}
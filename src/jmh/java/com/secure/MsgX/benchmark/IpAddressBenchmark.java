@@ -0,0 +1,63 @@
+package com.secure.MsgX.benchmark;
+
+import com.secure.MsgX.features.utility.commonUtil.IpAddressService;
+import com.secure.MsgX.features.utility.ticketCreateUtil.UniqueIdGenerators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client IP hashing done on every create, view and reply: SHA-256 of the address and the
+ * shuffle used to salt read-log hashes. Runs on all cores since it sits on the request thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(Threads.MAX)
+public class IpAddressBenchmark {
+
+    private MockHttpServletRequest proxiedRequest;
+    private String entropySeed;
+
+    @Setup
+    public void setUp() {
+        proxiedRequest = new MockHttpServletRequest();
+        proxiedRequest.setRemoteAddr("10.0.0.12");
+        proxiedRequest.addHeader("X-Forwarded-For", "203.0.113.54, 198.51.100.7, 10.0.0.1");
+        entropySeed = UniqueIdGenerators.UlidGenerator.generateUlid();
+    }
+
+    @Benchmark
+    public String hashIpv4() {
+        return IpAddressService.hashIpAddress("203.0.113.54");
+    }
+
+    @Benchmark
+    public String hashIpv6() {
+        return IpAddressService.hashIpAddress("2001:db8:85a3::8a2e:370:7334");
+    }
+
+    @Benchmark
+    public String extractAndHashForwardedIp() {
+        return IpAddressService.extractAndHashIp(proxiedRequest);
+    }
+
+    @Benchmark
+    public String shuffleAndShiftHash() {
+        return IpAddressService.shuffleAndShiftHash("saltvalue:Q2xpZW50SXBIYXNoVmFsdWVCYXNlNjQ9PQ==", entropySeed);
+    }
+}
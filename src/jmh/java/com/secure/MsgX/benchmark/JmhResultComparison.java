@@ -0,0 +1,86 @@
+package com.secure.MsgX.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files (e.g. the previous release's {@code jmh-result.json} against the current one)
+ * and exits with status 1 when a benchmark got slower by more than the threshold and beyond both error margins.
+ * Throughput scores are better when higher, every other mode when lower.
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.secure.MsgX.benchmark.JmhResultComparison \
+ *     -Dexec.args="baseline/jmh-result.json target/jmh-result.json 10"
+ * </pre>
+ */
+public final class JmhResultComparison {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    private JmhResultComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: JmhResultComparison <baseline.json> <current.json> [threshold-percent]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        Map<String, Score> baseline = read(Path.of(args[0]));
+        Map<String, Score> current = read(Path.of(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-100s %14s %14s %9s%n", "Benchmark", "Baseline", "Current", "Gain");
+        for (Map.Entry<String, Score> entry : new TreeMap<>(current).entrySet()) {
+            Score now = entry.getValue();
+            Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("%-100s %14s %14.3f %9s%n", entry.getKey(), "-", now.score(), "new");
+                continue;
+            }
+            // Positive means worse, whichever direction the mode counts in
+            double worse = (now.lowerIsBetter() ? now.score() - before.score() : before.score() - now.score()) / before.score() * 100.0;
+            boolean beyondError = Math.abs(now.score() - before.score()) > now.error() + before.error();
+            boolean regressed = worse > threshold && beyondError;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-100s %14.3f %14.3f %+8.1f%%%s%n", entry.getKey(), before.score(), now.score(), -worse,
+                    regressed ? "  REGRESSION" : "");
+        }
+        baseline.keySet().stream()
+                .filter(key -> !current.containsKey(key))
+                .sorted()
+                .forEach(key -> System.out.printf("%-100s %14.3f %14s %9s%n", key, baseline.get(key).score(), "-", "removed"));
+
+        System.out.printf("%n%d regression(s) above %.1f%%%n", regressions, threshold);
+        System.exit(regressions > 0 ? 1 : 0);
+    }
+
+    private static Map<String, Score> read(Path file) throws IOException {
+        Map<String, Score> scores = new LinkedHashMap<>();
+        for (JsonNode run : new ObjectMapper().readTree(file.toFile())) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText())
+                    .append(" [").append(run.path("mode").asText());
+            for (Map.Entry<String, JsonNode> param : run.path("params").properties()) {
+                key.append(", ").append(param.getKey()).append('=').append(param.getValue().asText());
+            }
+            key.append(", threads=").append(run.path("threads").asInt()).append(']');
+
+            JsonNode metric = run.path("primaryMetric");
+            double error = metric.path("scoreError").isNumber() ? metric.path("scoreError").asDouble() : 0.0;
+            scores.put(key.toString(), new Score(metric.path("score").asDouble(), error,
+                    !"thrpt".equals(run.path("mode").asText())));
+        }
+        return scores;
+    }
+
+    private record Score(double score, double error, boolean lowerIsBetter) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.secure.MsgX.benchmark;
+
+import com.secure.MsgX.features.utility.commonUtil.CryptoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Argon2 cost of one passkey as stored on creation and checked on every view and reply.
+ * Single-threaded; Argon2 is memory-hard, so also run with {@code -t} near the crypto executor size
+ * to see how it scales when memory bandwidth is shared.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class PasskeyHashBenchmark {
+
+    private static final String PASSKEY = "correct-horse-battery-staple";
+
+    private CryptoService cryptoService;
+    private String storedHash;
+
+    @Setup
+    public void setUp() {
+        cryptoService = new CryptoService();
+        storedHash = cryptoService.hashPasskey(PASSKEY);
+    }
+
+    @Benchmark
+    public String hashPasskey() {
+        return cryptoService.hashPasskey(PASSKEY);
+    }
+
+    @Benchmark
+    public boolean verifyMatchingPasskey() {
+        return cryptoService.verifyPasskey(PASSKEY, storedHash);
+    }
+
+    @Benchmark
+    public boolean verifyWrongPasskey() {
+        return cryptoService.verifyPasskey("wrong-horse-battery-staple", storedHash);
+    }
+}
@@ -0,0 +1,62 @@
+package com.secure.MsgX.benchmark;
+
+import com.secure.MsgX.core.enums.EncryptionAlgo;
+import com.secure.MsgX.features.utility.commonUtil.CryptoService;
+import com.secure.MsgX.features.utility.commonUtil.DerivedKey;
+import com.secure.MsgX.features.utility.commonUtil.SealedEnvelope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cipher cost per algorithm and payload size with an already derived key, i.e. what every reply of a
+ * conversation view and every cached-key view pays. Includes the UTF-8 and Base64 conversions CryptoService does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PayloadCipherBenchmark {
+
+    @Param({"AES_256", "CHACHA20", "TWOFISH"})
+    private EncryptionAlgo algorithm;
+
+    @Param({"100", "10240", "1048576", "10485760"})
+    private int payloadSize;
+
+    private CryptoService cryptoService;
+    private DerivedKey derivedKey;
+    private String plainText;
+    private SealedEnvelope envelope;
+
+    @Setup
+    public void setUp() {
+        cryptoService = new CryptoService();
+        derivedKey = cryptoService.deriveKey(List.of("passkey-1"), cryptoService.generateSalt(), algorithm);
+        plainText = Payloads.text(payloadSize);
+        envelope = cryptoService.encryptContent(plainText, derivedKey);
+    }
+
+    @Benchmark
+    public SealedEnvelope encryptWithDerivedKey() {
+        return cryptoService.encryptContent(plainText, derivedKey);
+    }
+
+    @Benchmark
+    public String decryptWithDerivedKey() {
+        return cryptoService.decryptContent(envelope.cipherText(), envelope.iv(), derivedKey);
+    }
+}
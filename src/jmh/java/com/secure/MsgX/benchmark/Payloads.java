@@ -0,0 +1,23 @@
+package com.secure.MsgX.benchmark;
+
+import java.util.Random;
+
+final class Payloads {
+
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 .,;:!?-";
+
+    private Payloads() {
+    }
+
+    /**
+     * ASCII text of exactly {@code size} UTF-8 bytes, fixed seed so every run encrypts the same message.
+     */
+    static String text(int size) {
+        Random random = new Random(size);
+        char[] chars = new char[size];
+        for (int i = 0; i < size; i++) {
+            chars[i] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+        }
+        return new String(chars);
+    }
+}
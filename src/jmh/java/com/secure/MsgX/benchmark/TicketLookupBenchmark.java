@@ -0,0 +1,126 @@
+package com.secure.MsgX.benchmark;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup latency of {@code findByTicketNumber} (ticket plus passkeys in one query) at 1M and 10M tickets.
+ * Needs a dedicated PostgreSQL database migrated by Flyway, reached through DB_URL / DB_USERNAME / DB_PASSWORD.
+ * Synthetic tickets (ticket_number VOL-n, two passkeys each) are seeded once and kept between runs,
+ * so the first 10M run takes a while. Drop the V3 indexes to reproduce the sequential-scan baseline.
+ * Databases seeded before V5 (uuid keys) hold non-uuid ids and must be recreated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(8)
+public class TicketLookupBenchmark {
+
+    private static final String FIND_BY_TICKET_NUMBER = "SELECT t.*, p.passkey_id, p.passkey_hash, p.key_order " +
+            "FROM ticket t LEFT JOIN passkey p ON p.ticket_id = t.ticket_id WHERE t.ticket_number = ?";
+
+    @Param({"1000000", "10000000"})
+    private long ticketCount;
+
+    private HikariDataSource dataSource;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(System.getenv("DB_URL"));
+        config.setUsername(System.getenv("DB_USERNAME"));
+        config.setPassword(System.getenv("DB_PASSWORD"));
+        config.setMaximumPoolSize(8);
+        dataSource = new HikariDataSource(config);
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public int findByTicketNumber() throws SQLException {
+        long n = ThreadLocalRandom.current().nextLong(1, ticketCount + 1);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement lookup = connection.prepareStatement(FIND_BY_TICKET_NUMBER)) {
+            lookup.setString(1, ticketNumber(n));
+            int rows = 0;
+            try (ResultSet rs = lookup.executeQuery()) {
+                while (rs.next()) {
+                    rows++;
+                }
+            }
+            return rows;
+        }
+    }
+
+    private void seed() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            long existing;
+            try (ResultSet rs = statement.executeQuery("SELECT count(*) FROM ticket WHERE ticket_number LIKE 'VOL-%'")) {
+                rs.next();
+                existing = rs.getLong(1);
+            }
+            if (existing >= ticketCount) {
+                return;
+            }
+            System.out.printf("%nSeeding tickets %d..%d%n", existing + 1, ticketCount);
+
+            try (PreparedStatement tickets = connection.prepareStatement(
+                    "INSERT INTO ticket (ticket_id, ticket_number, created_at, ticket_status, encryption_algo, ticket_type, " +
+                            "max_views, count_views, allow_replies, salt, encrypted_message, initialization_vector) " +
+                            "SELECT md5('vol-' || n)::uuid, 'VOL-' || lpad(n::text, 10, '0'), now(), 'OPEN', 'AES_256', 'SINGLE', " +
+                            "1, 0, false, md5(n::text), repeat(md5(n::text), 4), md5(n::text) " +
+                            "FROM generate_series(?::bigint, ?::bigint) AS n");
+                 PreparedStatement passkeys = connection.prepareStatement(
+                         "INSERT INTO passkey (passkey_id, passkey_hash, key_order, ticket_id) " +
+                                 "SELECT md5('vol-' || n || '-' || k)::uuid, repeat(md5(n::text || k), 3), k, md5('vol-' || n)::uuid " +
+                                 "FROM generate_series(?::bigint, ?::bigint) AS n, generate_series(1, 2) AS k")) {
+                // Chunked so each statement stays a reasonable size on the 10M run
+                for (long from = existing + 1; from <= ticketCount; from += 1_000_000) {
+                    long to = Math.min(from + 999_999, ticketCount);
+                    tickets.setLong(1, from);
+                    tickets.setLong(2, to);
+                    tickets.executeUpdate();
+                    passkeys.setLong(1, from);
+                    passkeys.setLong(2, to);
+                    passkeys.executeUpdate();
+                }
+            }
+            statement.execute("ANALYZE ticket");
+            statement.execute("ANALYZE passkey");
+        }
+    }
+
+    private static String ticketNumber(long n) {
+        return String.format("VOL-%010d", n);
+    }
+}
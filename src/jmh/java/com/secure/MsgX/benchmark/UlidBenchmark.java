@@ -0,0 +1,43 @@
+package com.secure.MsgX.benchmark;
+
+import com.secure.MsgX.features.utility.ticketCreateUtil.UniqueIdGenerators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the monotonic Crockford ULID generator with the previous implementation
+ * (a new SecureRandom and String.format per call). Run with {@code -t 1} as well to see the uncontended cost.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(Threads.MAX)
+public class UlidBenchmark {
+
+    @Benchmark
+    public String monotonicUlid() {
+        return UniqueIdGenerators.UlidGenerator.generateUlid();
+    }
+
+    @Benchmark
+    public String previousGenerator() {
+        byte[] randomBytes = new byte[10];
+        new SecureRandom().nextBytes(randomBytes);
+        StringBuilder hexString = new StringBuilder(String.format("%016x", System.currentTimeMillis()));
+        for (byte b : randomBytes) {
+            hexString.append(String.format("%02x", b));
+        }
+        return hexString.toString();
+    }
+}
@@ -0,0 +1,179 @@
+package com.secure.MsgX.benchmark;
+
+import com.secure.MsgX.features.utility.accessUtil.ViewSlotReservations;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Many concurrent viewers on a single hot ticket.
+ * <ul>
+ *     <li>{@code readModifyWrite} - the previous SELECT + UPDATE count_views = ? path; loses increments under contention</li>
+ *     <li>{@code conditionalUpdate} - one UPDATE ... WHERE count_views &lt; max_views RETURNING per view</li>
+ *     <li>{@code reservedSlots} - reservation mode, one UPDATE per block of views</li>
+ * </ul>
+ * Needs a PostgreSQL with the MsgX schema, reached through DB_URL / DB_USERNAME / DB_PASSWORD.
+ * At the end of each trial the stored count is compared with the views actually served.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(32)
+public class ViewAdmissionBenchmark {
+
+    private static final String SELECT_COUNT = "SELECT count_views, max_views FROM ticket WHERE ticket_id = ?";
+    private static final String WRITE_COUNT = "UPDATE ticket SET count_views = ? WHERE ticket_id = ?";
+    private static final String ADMIT_VIEW = "UPDATE ticket SET count_views = count_views + 1 " +
+            "WHERE ticket_id = ? AND ticket_status = 'OPEN' AND (max_views IS NULL OR count_views < max_views) " +
+            "RETURNING count_views";
+    private static final String RESERVE_SLOTS = "UPDATE ticket t SET count_views = LEAST(t.count_views + ?, t.max_views) " +
+            "FROM (SELECT ticket_id, count_views FROM ticket WHERE ticket_id = ? FOR UPDATE) previous " +
+            "WHERE t.ticket_id = previous.ticket_id AND t.ticket_status = 'OPEN' AND t.count_views < t.max_views " +
+            "RETURNING previous.count_views, t.count_views";
+
+    @Param({"100"})
+    private long blockSize;
+
+    @Param({"1000000000"})
+    private long maxViews;
+
+    private HikariDataSource dataSource;
+    private ViewSlotReservations reservations;
+    private String ticketId;
+    private final LongAdder served = new LongAdder();
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(System.getenv("DB_URL"));
+        config.setUsername(System.getenv("DB_USERNAME"));
+        config.setPassword(System.getenv("DB_PASSWORD"));
+        config.setMaximumPoolSize(32);
+        // Ids are bound as strings; let the server cast them to the uuid key columns
+        config.addDataSourceProperty("stringtype", "unspecified");
+        dataSource = new HikariDataSource(config);
+
+        ticketId = UUID.randomUUID().toString();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO ticket (ticket_id, ticket_number, created_at, ticket_status, encryption_algo, ticket_type, " +
+                             "max_views, count_views, allow_replies) VALUES (?, ?, ?, 'OPEN', 'AES_256', 'BROADCAST', ?, 0, false)")) {
+            insert.setString(1, ticketId);
+            insert.setString(2, "BENCH-" + ticketId);
+            insert.setTimestamp(3, Timestamp.from(Instant.now()));
+            insert.setLong(4, maxViews);
+            insert.executeUpdate();
+        }
+
+        reservations = new ViewSlotReservations((id, size) -> {
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement reserve = connection.prepareStatement(RESERVE_SLOTS)) {
+                reserve.setLong(1, size);
+                reserve.setString(2, id);
+                try (ResultSet rs = reserve.executeQuery()) {
+                    return rs.next() ? new long[]{rs.getLong(1), rs.getLong(2)} : null;
+                }
+            }
+            catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        }, blockSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement select = connection.prepareStatement(SELECT_COUNT)) {
+                select.setString(1, ticketId);
+                try (ResultSet rs = select.executeQuery()) {
+                    rs.next();
+                    System.out.printf("%nviews served=%d, stored count_views=%d, max_views=%d%n",
+                            served.sum(), rs.getLong(1), rs.getLong(2));
+                }
+            }
+            try (PreparedStatement delete = connection.prepareStatement("DELETE FROM ticket WHERE ticket_id = ?")) {
+                delete.setString(1, ticketId);
+                delete.executeUpdate();
+            }
+        }
+        finally {
+            dataSource.close();
+        }
+    }
+
+    @Benchmark
+    public long readModifyWrite() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            long count;
+            long limit;
+            try (PreparedStatement select = connection.prepareStatement(SELECT_COUNT)) {
+                select.setString(1, ticketId);
+                try (ResultSet rs = select.executeQuery()) {
+                    rs.next();
+                    count = rs.getLong(1);
+                    limit = rs.getLong(2);
+                }
+            }
+            if (count >= limit) {
+                return -1;
+            }
+            try (PreparedStatement update = connection.prepareStatement(WRITE_COUNT)) {
+                update.setLong(1, count + 1);
+                update.setString(2, ticketId);
+                update.executeUpdate();
+            }
+            served.increment();
+            return count + 1;
+        }
+    }
+
+    @Benchmark
+    public long conditionalUpdate() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement admit = connection.prepareStatement(ADMIT_VIEW)) {
+            admit.setString(1, ticketId);
+            try (ResultSet rs = admit.executeQuery()) {
+                if (!rs.next()) {
+                    return -1;
+                }
+                served.increment();
+                return rs.getLong(1);
+            }
+        }
+    }
+
+    @Benchmark
+    public long reservedSlots() {
+        long view = reservations.claim(ticketId);
+        if (view > 0) {
+            served.increment();
+        }
+        return view;
+    }
+}
@@ -0,0 +1,46 @@
+package com.secure.MsgX.loadtest;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Growable primitive array, one per client, so recording a latency does not box or contend.
+ */
+final class LatencyLog {
+
+    private long[] values = new long[4096];
+    private int size;
+
+    void add(long value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    static long[] mergeSorted(List<long[]> perWorker) {
+        long[] all = new long[perWorker.stream().mapToInt(latencies -> latencies.length).sum()];
+        int offset = 0;
+        for (long[] latencies : perWorker) {
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+            offset += latencies.length;
+        }
+        Arrays.sort(all);
+        return all;
+    }
+
+    /**
+     * Nearest-rank percentile of sorted nanosecond latencies, in milliseconds.
+     */
+    static double percentileMillis(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,70 @@
+package com.secure.MsgX.loadtest;
+
+import com.secure.MsgX.loadtest.MsgXApiClient.CreatedTicket;
+import com.secure.MsgX.loadtest.MsgXApiClient.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tickets shared by all clients: BROADCAST tickets for read storms and GROUP tickets whose reply chains
+ * keep growing across scenarios. Created once through the API before the first scenario.
+ */
+final class LoadFixtures {
+
+    record GroupThread(String ticketNumber, AtomicReference<String> lastReplyId) {
+    }
+
+    private final List<String> broadcasts = new ArrayList<>();
+    private final List<GroupThread> groups = new ArrayList<>();
+    private final List<String> algorithms;
+
+    private LoadFixtures(List<String> algorithms) {
+        this.algorithms = algorithms;
+    }
+
+    static LoadFixtures seed(MsgXApiClient client, int broadcastCount, int groupCount, int repliesPerGroup,
+                             List<String> algorithms, String message) throws IOException, InterruptedException {
+        LoadFixtures fixtures = new LoadFixtures(algorithms);
+        for (int i = 0; i < broadcastCount; i++) {
+            fixtures.broadcasts.add(create(client, "BROADCAST", algorithms.get(i % algorithms.size()), message).ticketNumber());
+        }
+        for (int i = 0; i < groupCount; i++) {
+            String ticketNumber = create(client, "GROUP", algorithms.get(i % algorithms.size()), message).ticketNumber();
+            String parent = null;
+            for (int r = 0; r < repliesPerGroup; r++) {
+                Response reply = client.reply(ticketNumber, parent, message);
+                if (!reply.ok()) {
+                    throw new IllegalStateException("Seeding reply failed with " + reply.status() + ": " + reply.body());
+                }
+                parent = MsgXApiClient.replyId(reply);
+            }
+            fixtures.groups.add(new GroupThread(ticketNumber, new AtomicReference<>(parent)));
+        }
+        return fixtures;
+    }
+
+    String randomBroadcast(Random random) {
+        return broadcasts.get(random.nextInt(broadcasts.size()));
+    }
+
+    GroupThread randomGroup(Random random) {
+        return groups.get(random.nextInt(groups.size()));
+    }
+
+    String randomAlgorithm(Random random) {
+        return algorithms.get(random.nextInt(algorithms.size()));
+    }
+
+    private static CreatedTicket create(MsgXApiClient client, String ticketType, String algorithm, String message)
+            throws IOException, InterruptedException {
+        Response response = client.createTicket(ticketType, algorithm, message);
+        if (!response.ok()) {
+            throw new IllegalStateException("Seeding " + ticketType + " ticket failed with " + response.status() + ": " + response.body());
+        }
+        return CreatedTicket.from(response.json());
+    }
+}
@@ -0,0 +1,78 @@
+package com.secure.MsgX.loadtest;
+
+import com.secure.MsgX.loadtest.MsgXApiClient.Response;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * One closed-loop client. Keeps its own per-operation latencies and status counts, merged after the run,
+ * so recording never contends between clients.
+ */
+final class LoadWorker {
+
+    static final int IO_ERROR = -1;
+
+    interface Call {
+        Response send() throws IOException, InterruptedException;
+    }
+
+    static final class OperationLog {
+        final LatencyLog latencies = new LatencyLog();
+        final Map<Integer, Long> statuses = new HashMap<>();
+    }
+
+    private final MsgXApiClient client;
+    private final LoadFixtures fixtures;
+    private final String message;
+    private final Random random;
+    private final Map<String, OperationLog> operations = new HashMap<>();
+
+    LoadWorker(MsgXApiClient client, LoadFixtures fixtures, String message, long seed) {
+        this.client = client;
+        this.fixtures = fixtures;
+        this.message = message;
+        this.random = new Random(new SplittableRandom(seed).nextLong());
+    }
+
+    /**
+     * Sends and records one request; returns null when it failed at the transport level.
+     */
+    Response call(String operation, Call call) throws InterruptedException {
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = call.send();
+        }
+        catch (IOException ex) {
+            response = null;
+        }
+        OperationLog log = operations.computeIfAbsent(operation, name -> new OperationLog());
+        log.latencies.add(System.nanoTime() - start);
+        log.statuses.merge(response == null ? IO_ERROR : response.status(), 1L, Long::sum);
+        return response;
+    }
+
+    MsgXApiClient client() {
+        return client;
+    }
+
+    LoadFixtures fixtures() {
+        return fixtures;
+    }
+
+    Random random() {
+        return random;
+    }
+
+    String message() {
+        return message;
+    }
+
+    Map<String, OperationLog> operations() {
+        return operations;
+    }
+}
@@ -0,0 +1,141 @@
+package com.secure.MsgX.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+
+/**
+ * Thin HTTP client for the sigil-scroll endpoints, shared by the load tests. Every call returns the status and raw
+ * body; callers decide what counts as success. Tickets are created with one fixed passkey and expire after a day.
+ */
+final class MsgXApiClient {
+
+    static final String API = "/doors-of-durin/sigil-scrolls";
+    static final String PASSKEY = "load-test-passkey";
+    /** Highest max_views a BROADCAST ticket accepts. */
+    static final long UNLIMITED_VIEWS = 999_999_999L;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient http;
+    private final String baseUrl;
+
+    MsgXApiClient(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.http = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    record Response(int status, String body) {
+
+        boolean ok() {
+            return status >= 200 && status < 300;
+        }
+
+        JsonNode json() throws IOException {
+            return MAPPER.readTree(body);
+        }
+    }
+
+    record CreatedTicket(String ticketId, String ticketNumber) {
+
+        static CreatedTicket from(JsonNode ticket) {
+            return new CreatedTicket(ticket.path("ticket_id").asText(), ticket.path("ticket_number").asText());
+        }
+    }
+
+    Response createTicket(String ticketType, String encryptionAlgo, String message) throws IOException, InterruptedException {
+        return post("/new-ticket", ticketBody(ticketType, encryptionAlgo, message));
+    }
+
+    Response createTickets(String ticketType, String encryptionAlgo, String message, int count) throws IOException, InterruptedException {
+        List<Map<String, Object>> tickets = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tickets.add(ticketBody(ticketType, encryptionAlgo, message));
+        }
+        return post("/new-tickets", Map.of("tickets", tickets));
+    }
+
+    Response view(String ticketNumber) throws IOException, InterruptedException {
+        return post("/view", Map.of("ticket_number", ticketNumber, "passkeys", passkeys()));
+    }
+
+    Response page(String ticketNumber, int limit) throws IOException, InterruptedException {
+        return post("/conversation/page", Map.of("ticket_number", ticketNumber, "passkeys", passkeys(), "limit", limit));
+    }
+
+    Response reply(String ticketNumber, String parentReplyId, String content) throws IOException, InterruptedException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("ticket_number", ticketNumber);
+        body.put("passkeys", passkeys());
+        body.put("content", content);
+        if (Objects.nonNull(parentReplyId)) {
+            body.put("parent_reply_id", parentReplyId);
+        }
+        return post("/replies", body);
+    }
+
+    Response delete(String ticketId) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + API + "/delete/" + ticketId))
+                .timeout(REQUEST_TIMEOUT)
+                .DELETE()
+                .build();
+        return send(request);
+    }
+
+    Response bulkDelete(List<String> ticketIds) throws IOException, InterruptedException {
+        return post("/bulk-delete", Map.of("ticket_ids", ticketIds));
+    }
+
+    /**
+     * The reply id of a posted reply; the response carries it in {@code parent_reply_id}.
+     */
+    static String replyId(Response response) throws IOException {
+        return response.json().path("parent_reply_id").asText(null);
+    }
+
+    private Response post(String path, Object body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + API + path))
+                .header("Content-Type", "application/json")
+                .timeout(REQUEST_TIMEOUT)
+                .POST(HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(body)))
+                .build();
+        return send(request);
+    }
+
+    private Response send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        return new Response(response.statusCode(), response.body());
+    }
+
+    private static Map<String, Object> ticketBody(String ticketType, String encryptionAlgo, String message) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("message_content", message);
+        body.put("encryption_algo", encryptionAlgo);
+        body.put("passkeys", List.of(PASSKEY));
+        body.put("ticket_type", ticketType);
+        body.put("max_views", UNLIMITED_VIEWS);
+        body.put("expires_at", Instant.now().plus(Duration.ofDays(1)).toString());
+        return body;
+    }
+
+    private static List<Map<String, Object>> passkeys() {
+        return List.of(Map.of("order", 1, "value", PASSKEY));
+    }
+}
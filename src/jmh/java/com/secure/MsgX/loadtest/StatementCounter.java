@@ -0,0 +1,70 @@
+package com.secure.MsgX.loadtest;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Wraps the application's DataSource and counts statement executions: every {@code execute*} call is one
+ * round trip, so a JDBC batch counts once. Covers Hibernate, JdbcTemplate, Flyway and background jobs alike.
+ */
+final class StatementCounter {
+
+    private final LongAdder executions = new LongAdder();
+
+    long executions() {
+        return executions.sum();
+    }
+
+    DataSource wrap(DataSource dataSource) {
+        return new DelegatingDataSource(dataSource) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                return countingConnection(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return countingConnection(super.getConnection(username, password));
+            }
+        };
+    }
+
+    private Connection countingConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    Class<?> type = method.getReturnType();
+                    if (result instanceof Statement statement && type.isInterface() && Statement.class.isAssignableFrom(type)) {
+                        return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type}, countingStatement(statement));
+                    }
+                    return result;
+                });
+    }
+
+    private InvocationHandler countingStatement(Statement statement) {
+        return (proxy, method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                executions.increment();
+            }
+            return invoke(statement, method, args);
+        };
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        }
+        catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.secure.MsgX.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop load test of the view endpoint against a running instance, used to compare platform and
+ * virtual request threads (start the service once with {@code spring.threads.virtual.enabled=false}, once with true).
+ * Creates one BROADCAST ticket, then {@code CONCURRENCY} clients view it back to back for {@code DURATION}
+ * after a {@code WARMUP}. Prints throughput, latency percentiles and status counts, plus a JSON summary line.
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.secure.MsgX.loadtest.ViewLoadTest -Dexec.args="virtual"
+ * </pre>
+ * Environment: BASE_URL (default http://localhost:8083), CONCURRENCY (200), DURATION (PT60S), WARMUP (PT10S).
+ */
+public class ViewLoadTest {
+
+    private static final String API = "/doors-of-durin/sigil-scrolls";
+    private static final String PASSKEY = "load-test-passkey";
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        String label = args.length > 0 ? args[0] : "run";
+        String baseUrl = env("BASE_URL", "http://localhost:8083");
+        int concurrency = Integer.parseInt(env("CONCURRENCY", "200"));
+        Duration duration = Duration.parse(env("DURATION", "PT60S"));
+        Duration warmup = Duration.parse(env("WARMUP", "PT10S"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        String ticketNumber = createTicket(client, baseUrl);
+        String viewBody = MAPPER.writeValueAsString(Map.of(
+                "ticket_number", ticketNumber,
+                "passkeys", List.of(Map.of("order", 1, "value", PASSKEY))));
+        HttpRequest view = HttpRequest.newBuilder(URI.create(baseUrl + API + "/view"))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(60))
+                .POST(HttpRequest.BodyPublishers.ofString(viewBody))
+                .build();
+
+        System.out.printf("%s: %d clients against %s, warmup %s, measuring %s%n", label, concurrency, ticketNumber, warmup, duration);
+        run(client, view, concurrency, warmup, false);
+        Result result = run(client, view, concurrency, duration, true);
+        result.print(label, concurrency, duration);
+    }
+
+    private static Result run(HttpClient client, HttpRequest view, int concurrency, Duration duration, boolean record) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        List<Future<long[]>> workers = new ArrayList<>(concurrency);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                workers.add(clients.submit(() -> {
+                    LatencyLog latencies = new LatencyLog();
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        int status;
+                        try {
+                            status = client.send(view, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        }
+                        catch (IOException ex) {
+                            status = -1;
+                        }
+                        latencies.add(System.nanoTime() - start);
+                        statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+                    }
+                    return latencies.toArray();
+                }));
+            }
+            List<long[]> perWorker = new ArrayList<>(concurrency);
+            for (Future<long[]> worker : workers) {
+                perWorker.add(worker.get());
+            }
+            return record ? new Result(LatencyLog.mergeSorted(perWorker), statuses) : null;
+        }
+    }
+
+    private static String createTicket(HttpClient client, String baseUrl) throws IOException, InterruptedException {
+        String body = MAPPER.writeValueAsString(Map.of(
+                "message_content", "load test message",
+                "encryption_algo", "AES_256",
+                "passkeys", List.of(PASSKEY),
+                "ticket_type", "BROADCAST",
+                "max_views", MsgXApiClient.UNLIMITED_VIEWS,
+                "expires_at", Instant.now().plus(Duration.ofDays(1)).toString(),
+                "allow_replies", false));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + API + "/new-ticket"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Ticket creation failed with " + response.statusCode() + ": " + response.body());
+        }
+        JsonNode ticket = MAPPER.readTree(response.body());
+        return ticket.get("ticket_number").asText();
+    }
+
+    private static String env(String name, String fallback) {
+        String value = System.getenv(name);
+        return Objects.nonNull(value) && !value.isBlank() ? value : fallback;
+    }
+
+    private record Result(long[] sortedLatencies, Map<Integer, LongAdder> statuses) {
+
+        private double percentileMillis(double percentile) {
+            return LatencyLog.percentileMillis(sortedLatencies, percentile);
+        }
+
+        private void print(String label, int concurrency, Duration duration) throws IOException {
+            double throughput = sortedLatencies.length / (duration.toMillis() / 1000.0);
+            Map<String, Long> statusCounts = new TreeMap<>();
+            statuses.forEach((status, count) -> statusCounts.put(status < 0 ? "io_error" : String.valueOf(status), count.sum()));
+
+            System.out.printf("requests=%d throughput=%.1f/s p50=%.1fms p90=%.1fms p99=%.1fms p99.9=%.1fms max=%.1fms statuses=%s%n",
+                    sortedLatencies.length, throughput, percentileMillis(50), percentileMillis(90), percentileMillis(99),
+                    percentileMillis(99.9), percentileMillis(100), statusCounts);
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("label", label);
+            summary.put("concurrency", concurrency);
+            summary.put("requests", sortedLatencies.length);
+            summary.put("throughput_per_s", throughput);
+            summary.put("p50_ms", percentileMillis(50));
+            summary.put("p90_ms", percentileMillis(90));
+            summary.put("p99_ms", percentileMillis(99));
+            summary.put("p999_ms", percentileMillis(99.9));
+            summary.put("max_ms", percentileMillis(100));
+            summary.put("statuses", statusCounts);
+            System.out.println(MAPPER.writeValueAsString(summary));
+        }
+    }
+}
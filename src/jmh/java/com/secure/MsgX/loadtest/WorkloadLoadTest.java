@@ -0,0 +1,259 @@
+package com.secure.MsgX.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.secure.MsgX.MsgXApplication;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * End-to-end load test: boots MsgX in-process against PostgreSQL (a Testcontainers instance, or DB_URL /
+ * DB_USERNAME / DB_PASSWORD), seeds BROADCAST and GROUP tickets through the API and runs each workload mix
+ * closed-loop with {@code CONCURRENCY} clients. Per scenario it reports throughput, latency percentiles and error
+ * rate per operation plus the JDBC statements executed, and writes all results as JSON to {@code RESULT_FILE}.
+ * <pre>
+ * ./mvnw -Pbenchmark test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.secure.MsgX.loadtest.WorkloadLoadTest \
+ *     -Dexec.args="--spring.threads.virtual.enabled=true"
+ * </pre>
+ * Program arguments are passed to the application as property overrides. Environment:
+ * SCENARIOS (all of {@link WorkloadMix#SCENARIOS}), MIX (adds a "custom" scenario, e.g. view-broadcast:70,reply-group:30),
+ * CONCURRENCY (64), DURATION (PT30S), WARMUP (PT5S), MESSAGE_SIZE (512), ALGORITHMS (AES_256,CHACHA20,TWOFISH),
+ * SEED_BROADCASTS (10), SEED_GROUPS (4), SEED_REPLIES (20), LOG_LEVEL (WARN), RESULT_FILE (target/loadtest-result.json).
+ * BASE_URL drives an already running instance instead; statement counts are then not available.
+ * Client and server share the machine when booted in-process, so use BASE_URL for hardware sizing.
+ */
+public class WorkloadLoadTest {
+
+    private static final String POSTGRES_IMAGE = "postgres:16-alpine";
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.parseInt(env("CONCURRENCY", "64"));
+        Duration duration = Duration.parse(env("DURATION", "PT30S"));
+        Duration warmup = Duration.parse(env("WARMUP", "PT5S"));
+        String message = "m".repeat(Integer.parseInt(env("MESSAGE_SIZE", "512")));
+        List<String> algorithms = Arrays.asList(env("ALGORITHMS", "AES_256,CHACHA20,TWOFISH").split(","));
+        List<WorkloadMix> mixes = mixes();
+
+        PostgreSQLContainer<?> postgres = null;
+        ConfigurableApplicationContext application = null;
+        StatementCounter statements = null;
+        try {
+            String baseUrl = System.getenv("BASE_URL");
+            if (Objects.isNull(baseUrl) || baseUrl.isBlank()) {
+                String jdbcUrl = System.getenv("DB_URL");
+                String username = System.getenv("DB_USERNAME");
+                String password = System.getenv("DB_PASSWORD");
+                if (Objects.isNull(jdbcUrl) || jdbcUrl.isBlank()) {
+                    postgres = new PostgreSQLContainer<>(POSTGRES_IMAGE);
+                    postgres.start();
+                    jdbcUrl = postgres.getJdbcUrl();
+                    username = postgres.getUsername();
+                    password = postgres.getPassword();
+                }
+                statements = new StatementCounter();
+                application = boot(jdbcUrl, username, password, statements, args);
+                baseUrl = "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+            }
+
+            MsgXApiClient client = new MsgXApiClient(baseUrl);
+            System.out.printf("Seeding fixtures against %s%n", baseUrl);
+            LoadFixtures fixtures = LoadFixtures.seed(client,
+                    Integer.parseInt(env("SEED_BROADCASTS", "10")),
+                    Integer.parseInt(env("SEED_GROUPS", "4")),
+                    Integer.parseInt(env("SEED_REPLIES", "20")),
+                    algorithms, message);
+
+            List<Map<String, Object>> results = new ArrayList<>();
+            for (WorkloadMix mix : mixes) {
+                System.out.printf("%n== %s: %d clients, warmup %s, measuring %s, mix %s%n", mix.name(), concurrency, warmup, duration, mix.weights());
+                run(mix, client, fixtures, message, concurrency, warmup);
+                long statementsBefore = Objects.nonNull(statements) ? statements.executions() : 0;
+                List<LoadWorker> workers = run(mix, client, fixtures, message, concurrency, duration);
+                Long executed = Objects.nonNull(statements) ? statements.executions() - statementsBefore : null;
+                results.add(report(mix, workers, concurrency, duration, executed));
+            }
+
+            Map<String, Object> output = new LinkedHashMap<>();
+            output.put("processors", Runtime.getRuntime().availableProcessors());
+            output.put("max_heap_mb", Runtime.getRuntime().maxMemory() / (1024 * 1024));
+            output.put("message_size", message.length());
+            output.put("scenarios", results);
+            Path resultFile = Path.of(env("RESULT_FILE", "target/loadtest-result.json"));
+            Files.createDirectories(resultFile.toAbsolutePath().getParent());
+            MAPPER.writeValue(resultFile.toFile(), output);
+            System.out.printf("%nResults written to %s%n", resultFile.toAbsolutePath());
+        }
+        finally {
+            if (Objects.nonNull(application)) {
+                application.close();
+            }
+            if (Objects.nonNull(postgres)) {
+                postgres.stop();
+            }
+        }
+    }
+
+    private static ConfigurableApplicationContext boot(String jdbcUrl, String username, String password,
+                                                       StatementCounter statements, String[] overrides) {
+        String logLevel = env("LOG_LEVEL", "WARN");
+        String[] properties = Stream.concat(Stream.of(
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.username=" + username,
+                "--spring.datasource.password=" + password,
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=" + logLevel,
+                "--logging.level.com.secure.MsgX=" + logLevel,
+                "--logging.level.org.springframework.security=" + logLevel), Arrays.stream(overrides))
+                .toArray(String[]::new);
+
+        SpringApplication application = new SpringApplication(MsgXApplication.class);
+        application.addInitializers(context -> context.getBeanFactory().addBeanPostProcessor(new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? statements.wrap(dataSource) : bean;
+            }
+        }));
+        return application.run(properties);
+    }
+
+    private static List<LoadWorker> run(WorkloadMix mix, MsgXApiClient client, LoadFixtures fixtures, String message,
+                                        int concurrency, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong harnessErrors = new AtomicLong();
+        List<Future<LoadWorker>> futures = new ArrayList<>(concurrency);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                LoadWorker worker = new LoadWorker(client, fixtures, message, System.nanoTime() + c);
+                futures.add(clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        try {
+                            mix.pick(worker.random()).run(worker);
+                        }
+                        catch (IOException | RuntimeException ex) {
+                            // An unreadable response body; the request itself is already recorded
+                            harnessErrors.incrementAndGet();
+                        }
+                    }
+                    return worker;
+                }));
+            }
+            List<LoadWorker> workers = new ArrayList<>(concurrency);
+            for (Future<LoadWorker> future : futures) {
+                workers.add(future.get());
+            }
+            if (harnessErrors.get() > 0) {
+                System.out.printf("%d responses could not be parsed%n", harnessErrors.get());
+            }
+            return workers;
+        }
+    }
+
+    private static Map<String, Object> report(WorkloadMix mix, List<LoadWorker> workers, int concurrency,
+                                              Duration duration, Long statements) {
+        double seconds = duration.toMillis() / 1000.0;
+        Map<String, List<LoadWorker.OperationLog>> byOperation = new TreeMap<>();
+        workers.forEach(worker -> worker.operations().forEach(
+                (operation, log) -> byOperation.computeIfAbsent(operation, name -> new ArrayList<>()).add(log)));
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        long requests = 0;
+        long errors = 0;
+        System.out.printf("%-22s %9s %9s %9s %9s %9s %9s %9s %8s  %s%n",
+                "operation", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "errors", "statuses");
+        for (Map.Entry<String, List<LoadWorker.OperationLog>> entry : byOperation.entrySet()) {
+            long[] latencies = LatencyLog.mergeSorted(entry.getValue().stream().map(log -> log.latencies.toArray()).toList());
+            Map<String, Long> statuses = new TreeMap<>();
+            entry.getValue().forEach(log -> log.statuses.forEach(
+                    (status, count) -> statuses.merge(status == LoadWorker.IO_ERROR ? "io_error" : String.valueOf(status), count, Long::sum)));
+            long failed = statuses.entrySet().stream()
+                    .filter(status -> !status.getKey().startsWith("2"))
+                    .mapToLong(Map.Entry::getValue)
+                    .sum();
+            requests += latencies.length;
+            errors += failed;
+
+            Map<String, Object> operation = new LinkedHashMap<>();
+            operation.put("requests", latencies.length);
+            operation.put("throughput_per_s", latencies.length / seconds);
+            operation.put("p50_ms", LatencyLog.percentileMillis(latencies, 50));
+            operation.put("p90_ms", LatencyLog.percentileMillis(latencies, 90));
+            operation.put("p99_ms", LatencyLog.percentileMillis(latencies, 99));
+            operation.put("p999_ms", LatencyLog.percentileMillis(latencies, 99.9));
+            operation.put("max_ms", LatencyLog.percentileMillis(latencies, 100));
+            operation.put("error_rate", latencies.length == 0 ? 0.0 : (double) failed / latencies.length);
+            operation.put("statuses", statuses);
+            operations.put(entry.getKey(), operation);
+
+            System.out.printf("%-22s %9d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f %7.2f%%  %s%n", entry.getKey(), latencies.length,
+                    latencies.length / seconds, operation.get("p50_ms"), operation.get("p90_ms"), operation.get("p99_ms"),
+                    operation.get("p999_ms"), operation.get("max_ms"), 100.0 * (double) operation.get("error_rate"), statuses);
+        }
+
+        Map<String, Object> scenario = new LinkedHashMap<>();
+        scenario.put("scenario", mix.name());
+        scenario.put("concurrency", concurrency);
+        scenario.put("duration_s", seconds);
+        scenario.put("requests", requests);
+        scenario.put("throughput_per_s", requests / seconds);
+        scenario.put("error_rate", requests == 0 ? 0.0 : (double) errors / requests);
+        scenario.put("db_statements", statements);
+        scenario.put("db_statements_per_request", Objects.isNull(statements) || requests == 0 ? null : (double) statements / requests);
+        scenario.put("operations", operations);
+
+        System.out.printf("total: %d requests, %.1f req/s, %.2f%% errors%s%n", requests, requests / seconds,
+                100.0 * (double) scenario.get("error_rate"),
+                Objects.isNull(statements) ? "" : String.format(", %d db statements (%.1f per request)", statements,
+                        (Double) scenario.get("db_statements_per_request")));
+        return scenario;
+    }
+
+    private static List<WorkloadMix> mixes() {
+        List<WorkloadMix> mixes = new ArrayList<>();
+        String selected = System.getenv("SCENARIOS");
+        if (Objects.isNull(selected) || selected.isBlank()) {
+            mixes.addAll(WorkloadMix.SCENARIOS.values());
+        }
+        else {
+            for (String name : selected.split(",")) {
+                WorkloadMix mix = WorkloadMix.SCENARIOS.get(name.trim());
+                if (Objects.isNull(mix)) {
+                    throw new IllegalArgumentException("Unknown scenario '" + name + "', expected one of " + WorkloadMix.SCENARIOS.keySet());
+                }
+                mixes.add(mix);
+            }
+        }
+        String custom = System.getenv("MIX");
+        if (Objects.nonNull(custom) && !custom.isBlank()) {
+            mixes.add(WorkloadMix.parse("custom", custom));
+        }
+        return mixes;
+    }
+
+    private static String env(String name, String fallback) {
+        String value = System.getenv(name);
+        return Objects.nonNull(value) && !value.isBlank() ? value : fallback;
+    }
+}
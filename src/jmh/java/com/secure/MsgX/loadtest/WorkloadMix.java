@@ -0,0 +1,64 @@
+package com.secure.MsgX.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * A named, weighted mix of workload steps. Each client iteration picks one step with probability weight / total.
+ */
+record WorkloadMix(String name, Map<WorkloadStep, Integer> weights) {
+
+    static final Map<String, WorkloadMix> SCENARIOS = scenarios(
+            new WorkloadMix("broadcast-read-storm", Map.of(
+                    WorkloadStep.VIEW_BROADCAST, 100)),
+            new WorkloadMix("group-deep-thread", Map.of(
+                    WorkloadStep.REPLY_GROUP, 50,
+                    WorkloadStep.PAGE_GROUP, 35,
+                    WorkloadStep.VIEW_GROUP, 15)),
+            new WorkloadMix("secure-single-burst", Map.of(
+                    WorkloadStep.CREATE_THEN_VIEW_SECURE_SINGLE, 100)),
+            new WorkloadMix("delete-churn", Map.of(
+                    WorkloadStep.CREATE_THEN_DELETE, 80,
+                    WorkloadStep.BULK_CREATE_THEN_DELETE, 20)),
+            new WorkloadMix("mixed", Map.of(
+                    WorkloadStep.VIEW_BROADCAST, 40,
+                    WorkloadStep.PAGE_GROUP, 15,
+                    WorkloadStep.REPLY_GROUP, 10,
+                    WorkloadStep.VIEW_GROUP, 5,
+                    WorkloadStep.CREATE_THEN_VIEW_SECURE_SINGLE, 20,
+                    WorkloadStep.CREATE_THEN_DELETE, 8,
+                    WorkloadStep.BULK_CREATE_THEN_DELETE, 2)));
+
+    /**
+     * Parses {@code step:weight,step:weight}, e.g. {@code view-broadcast:70,reply-group:30}.
+     */
+    static WorkloadMix parse(String name, String spec) {
+        Map<WorkloadStep, Integer> weights = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected step:weight but got '" + entry + "'");
+            }
+            weights.put(WorkloadStep.of(parts[0]), Integer.parseInt(parts[1].trim()));
+        }
+        return new WorkloadMix(name, weights);
+    }
+
+    WorkloadStep pick(Random random) {
+        int ticket = random.nextInt(weights.values().stream().mapToInt(Integer::intValue).sum());
+        for (Map.Entry<WorkloadStep, Integer> entry : weights.entrySet()) {
+            ticket -= entry.getValue();
+            if (ticket < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Weights of mix " + name + " must be positive");
+    }
+
+    private static Map<String, WorkloadMix> scenarios(WorkloadMix... mixes) {
+        return Arrays.stream(mixes).collect(Collectors.toMap(WorkloadMix::name, mix -> mix, (a, b) -> a, LinkedHashMap::new));
+    }
+}
@@ -0,0 +1,118 @@
+package com.secure.MsgX.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.secure.MsgX.loadtest.MsgXApiClient.CreatedTicket;
+import com.secure.MsgX.loadtest.MsgXApiClient.Response;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One client action of a workload mix. A step issues one or more requests, each recorded under its own
+ * operation name, e.g. CREATE_THEN_VIEW_SECURE_SINGLE records create_secure_single and view_secure_single.
+ */
+enum WorkloadStep {
+
+    VIEW_BROADCAST {
+        @Override
+        void run(LoadWorker worker) throws IOException, InterruptedException {
+            String ticketNumber = worker.fixtures().randomBroadcast(worker.random());
+            worker.call("view_broadcast", () -> worker.client().view(ticketNumber));
+        }
+    },
+
+    REPLY_GROUP {
+        @Override
+        void run(LoadWorker worker) throws IOException, InterruptedException {
+            // Each reply answers the newest one, so the thread grows into a deep chain
+            LoadFixtures.GroupThread group = worker.fixtures().randomGroup(worker.random());
+            Response response = worker.call("reply_group",
+                    () -> worker.client().reply(group.ticketNumber(), group.lastReplyId().get(), worker.message()));
+            if (Objects.nonNull(response) && response.ok()) {
+                group.lastReplyId().set(MsgXApiClient.replyId(response));
+            }
+        }
+    },
+
+    VIEW_GROUP {
+        @Override
+        void run(LoadWorker worker) throws IOException, InterruptedException {
+            LoadFixtures.GroupThread group = worker.fixtures().randomGroup(worker.random());
+            worker.call("view_group", () -> worker.client().view(group.ticketNumber()));
+        }
+    },
+
+    PAGE_GROUP {
+        @Override
+        void run(LoadWorker worker) throws IOException, InterruptedException {
+            LoadFixtures.GroupThread group = worker.fixtures().randomGroup(worker.random());
+            worker.call("page_group", () -> worker.client().page(group.ticketNumber(), 50));
+        }
+    },
+
+    CREATE_THEN_VIEW_SECURE_SINGLE {
+        @Override
+        void run(LoadWorker worker) throws IOException, InterruptedException {
+            String algorithm = worker.fixtures().randomAlgorithm(worker.random());
+            Response created = worker.call("create_secure_single",
+                    () -> worker.client().createTicket("SECURE_SINGLE", algorithm, worker.message()));
+            if (Objects.nonNull(created) && created.ok()) {
+                String ticketNumber = CreatedTicket.from(created.json()).ticketNumber();
+                worker.call("view_secure_single", () -> worker.client().view(ticketNumber));
+            }
+        }
+    },
+
+    CREATE_THEN_DELETE {
+        @Override
+        void run(LoadWorker worker) throws IOException, InterruptedException {
+            String algorithm = worker.fixtures().randomAlgorithm(worker.random());
+            Response created = worker.call("create_single",
+                    () -> worker.client().createTicket("SINGLE", algorithm, worker.message()));
+            if (Objects.nonNull(created) && created.ok()) {
+                String ticketId = CreatedTicket.from(created.json()).ticketId();
+                worker.call("delete", () -> worker.client().delete(ticketId));
+            }
+        }
+    },
+
+    BULK_CREATE_THEN_DELETE {
+        @Override
+        void run(LoadWorker worker) throws IOException, InterruptedException {
+            String algorithm = worker.fixtures().randomAlgorithm(worker.random());
+            Response created = worker.call("create_batch",
+                    () -> worker.client().createTickets("SINGLE", algorithm, worker.message(), BULK_SIZE));
+            if (Objects.isNull(created) || !created.ok()) {
+                return;
+            }
+            List<String> ticketIds = new ArrayList<>(BULK_SIZE);
+            for (JsonNode result : created.json().path("results")) {
+                if (result.hasNonNull("ticket")) {
+                    ticketIds.add(CreatedTicket.from(result.get("ticket")).ticketId());
+                }
+            }
+            if (!ticketIds.isEmpty()) {
+                worker.call("bulk_delete", () -> worker.client().bulkDelete(ticketIds));
+            }
+        }
+    };
+
+    private static final int BULK_SIZE = 25;
+
+    abstract void run(LoadWorker worker) throws IOException, InterruptedException;
+
+    String id() {
+        return name().toLowerCase().replace('_', '-');
+    }
+
+    static WorkloadStep of(String id) {
+        return Arrays.stream(values())
+                .filter(step -> step.id().equals(id.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown step '" + id + "', expected one of "
+                        + Arrays.stream(values()).map(WorkloadStep::id).toList()));
+    }
+}
@@ -8,9 +8,14 @@ public class ApiUsageConstants {
 
     // Endpoints
     public static final String NEW_TICKET = "/doors-of-durin/sigil-scrolls/new-ticket";
+    public static final String NEW_TICKET_BATCH = "/doors-of-durin/sigil-scrolls/new-tickets";
     public static final String VIEW_TICKET = "/doors-of-durin/sigil-scrolls/view";
     public static final String DELETE_TICKET = "/doors-of-durin/sigil-scrolls/delete";
+    public static final String BULK_DELETE_TICKETS = "/doors-of-durin/sigil-scrolls/bulk-delete";
     public static final String POST_REPLY = "/doors-of-durin/sigil-scrolls/replies";
+    public static final String CONVERSATION_PAGE = "/doors-of-durin/sigil-scrolls/conversation/page";
+    public static final String CONVERSATION_STREAM = "/doors-of-durin/sigil-scrolls/conversation/stream";
+    public static final String CONVERSATION_SUBSCRIBE = "/doors-of-durin/sigil-scrolls/conversation/subscribe";
 
     private ApiUsageConstants() {}
 }
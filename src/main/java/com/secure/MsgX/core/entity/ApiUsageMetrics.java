@@ -8,7 +8,8 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
-@Table(name = "api_usage_metrics")
+@Table(name = "api_usage_metrics",
+        uniqueConstraints = @UniqueConstraint(name = "uk_api_usage_metrics_key", columnNames = {"http_method", "api_endpoint", "ticket_type"}))
 public class ApiUsageMetrics {
 
     @Id
@@ -1,18 +1,23 @@
 package com.secure.MsgX.core.entity;
 
+import com.secure.MsgX.core.entity.id.TimeOrderedUuid;
+import com.secure.MsgX.core.entity.id.UuidStringType;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Type;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "passkey")
+@Table(name = "passkey",
+        indexes = @Index(name = "ix_passkey_ticket", columnList = "ticket_id"))
 public class Passkey {
 
     @Id
     @Column(name = "passkey_id")
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
+    @Type(UuidStringType.class)
     private String passkeyId;
 
     @Column(name = "passkey_hash")
@@ -1,21 +1,26 @@
 package com.secure.MsgX.core.entity;
 
+import com.secure.MsgX.core.entity.id.TimeOrderedUuid;
+import com.secure.MsgX.core.entity.id.UuidStringType;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Type;
 
 import java.time.Instant;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "read_log")
+@Table(name = "read_log",
+        indexes = @Index(name = "ix_read_log_ticket", columnList = "ticket_id"))
 public class ReadLog {
 
     @Id
     @Column(name = "read_log_id")
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
+    @Type(UuidStringType.class)
     private String readLogId;
 
     @CreationTimestamp
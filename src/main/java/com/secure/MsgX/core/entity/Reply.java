@@ -1,9 +1,12 @@
 package com.secure.MsgX.core.entity;
 
+import com.secure.MsgX.core.entity.id.TimeOrderedUuid;
+import com.secure.MsgX.core.entity.id.UuidStringType;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Type;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -12,19 +15,30 @@ import java.util.List;
 @Getter
 @Setter
 @Entity
-@Table(name = "reply")
+@Table(name = "reply",
+        indexes = {
+                @Index(name = "ix_reply_ticket_parent_created", columnList = "ticket_id, parent_reply_id, created_at"),
+                @Index(name = "ux_reply_ticket_seq", columnList = "ticket_id, reply_seq", unique = true)
+        })
 public class Reply {
 
     @Id
     @Column(name = "reply_id")
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
+    @Type(UuidStringType.class)
     private String replyId;
 
+    /**
+     * Snowflake id from SnowflakeIdService; orders the conversation and backs its paging cursor.
+     */
+    @Column(name = "reply_seq", nullable = false, updatable = false)
+    private Long replySeq;
+
     @CreationTimestamp
     @Column(name = "created_at")
     private Instant createdAt;
 
-    @Column(name = "encrypted_content")
+    @Column(name = "encrypted_content", columnDefinition = "TEXT")
     private String encryptedContent;
 
     @Column(name = "reply_ip_address")
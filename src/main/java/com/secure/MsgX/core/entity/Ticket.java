@@ -1,5 +1,6 @@
 package com.secure.MsgX.core.entity;
 
+import com.secure.MsgX.core.entity.id.UuidStringType;
 import com.secure.MsgX.core.enums.EncryptionAlgo;
 import com.secure.MsgX.core.enums.TicketStatus;
 import com.secure.MsgX.core.enums.TicketType;
@@ -7,6 +8,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Type;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.Instant;
@@ -15,16 +17,24 @@ import java.util.List;
 @Getter
 @Setter
 @Entity
-@Table(name = "ticket")
+@Table(name = "ticket",
+        indexes = {
+                @Index(name = "ux_ticket_ticket_number", columnList = "ticket_number", unique = true),
+                @Index(name = "ix_ticket_status_expiry", columnList = "ticket_status, expires_at, open_until"),
+                @Index(name = "ix_ticket_status_open_until", columnList = "ticket_status, open_until"),
+                @Index(name = "ix_ticket_status_updated", columnList = "ticket_status, updated_at")
+        })
 public class Ticket {
 
     /**
      * Internal ticket ID used only by the sender.
      * Can be used to immediately revoke or manage ticket access.
+     * A random UUIDv4 rather than a time-ordered one, since it doubles as the revoke credential.
      */
     @Id
     @Column(name = "ticket_id")
     @GeneratedValue(strategy = GenerationType.UUID)
+    @Type(UuidStringType.class)
     private String ticketId;
 
     /**
@@ -69,7 +79,11 @@ public class Ticket {
     @Column(name = "max_views")
     private Long maxViews;
 
-    @Column(name = "count_views")
+    /**
+     * Only ever changed by the conditional updates in TicketRepository, never by entity dirty-checking,
+     * so concurrent viewers cannot overwrite each other's increments.
+     */
+    @Column(name = "count_views", updatable = false)
     private Long countViews = 0L;
 
     @Column(name = "encrypted_message", columnDefinition = "TEXT")
@@ -0,0 +1,18 @@
+package com.secure.MsgX.core.entity.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates the annotated String id as a time-ordered UUIDv7 (see {@link TimeOrderedUuidGenerator}).
+ * Combine with {@code @Type(UuidStringType.class)} so the id is stored as a native 16-byte uuid.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+}
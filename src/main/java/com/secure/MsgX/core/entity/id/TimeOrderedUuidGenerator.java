@@ -0,0 +1,56 @@
+package com.secure.MsgX.core.entity.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RFC 9562 UUIDv7: 48-bit Unix milliseconds, then a 12-bit counter (rand_a) that keeps ids from one
+ * process strictly increasing within a millisecond, then 62 bits from SecureRandom.
+ * New rows therefore land at the right edge of the primary key B-tree instead of on random pages.
+ * The ids are not secrets: they reveal their creation millisecond and carry only 62 random bits, so they are used
+ * for passkey, reply and read-log rows only. The ticket id doubles as the sender's revoke credential and stays a
+ * random UUIDv4.
+ * Callers that bypass Hibernate, such as JDBC batch inserts, use {@link #next()} directly.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int COUNTER_BITS = 12;
+
+    // (unix millis << 12) | counter of the last id handed out
+    private static final AtomicLong LAST_TICK = new AtomicLong();
+
+    public static String next() {
+        return nextUuid().toString();
+    }
+
+    public static UUID nextUuid() {
+        long now = System.currentTimeMillis() << COUNTER_BITS;
+        // Lock-free: take the next counter value in the current millisecond, or move on to a new millisecond.
+        // A counter overflow simply borrows from the next millisecond, so ordering is never violated.
+        long tick = LAST_TICK.updateAndGet(last -> Math.max(last + 1, now));
+
+        long millis = tick >>> COUNTER_BITS;
+        long counter = tick & ((1L << COUNTER_BITS) - 1);
+        long mostSignificant = (millis << 16) | (0x7L << 12) | counter;
+        long leastSignificant = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,108 @@
+package com.secure.MsgX.core.entity.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.usertype.EnhancedUserType;
+
+import java.io.Serializable;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Keeps ids as {@code String} in Java while storing them as a native uuid column (16 bytes instead of
+ * a 36-character varchar), so repositories, DTOs and URLs are unaffected by the column type.
+ */
+public class UuidStringType implements EnhancedUserType<String> {
+
+    /**
+     * Ids arriving from clients must pass this check before being used in a lookup; a malformed value
+     * cannot be bound to a uuid column and simply matches nothing.
+     */
+    public static boolean isUuid(String value) {
+        if (Objects.isNull(value) || value.length() != 36) {
+            return false;
+        }
+        try {
+            UUID.fromString(value);
+            return true;
+        }
+        catch (IllegalArgumentException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public int getSqlType() {
+        return SqlTypes.UUID;
+    }
+
+    @Override
+    public Class<String> returnedClass() {
+        return String.class;
+    }
+
+    @Override
+    public boolean equals(String x, String y) {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(String x) {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public String nullSafeGet(ResultSet rs, int position, SharedSessionContractImplementor session, Object owner) throws SQLException {
+        UUID value = rs.getObject(position, UUID.class);
+        return Objects.nonNull(value) ? value.toString() : null;
+    }
+
+    @Override
+    public void nullSafeSet(PreparedStatement st, String value, int index, SharedSessionContractImplementor session) throws SQLException {
+        if (Objects.isNull(value)) {
+            st.setNull(index, Types.OTHER);
+        }
+        else {
+            st.setObject(index, UUID.fromString(value));
+        }
+    }
+
+    @Override
+    public String deepCopy(String value) {
+        return value;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return false;
+    }
+
+    @Override
+    public Serializable disassemble(String value) {
+        return value;
+    }
+
+    @Override
+    public String assemble(Serializable cached, Object owner) {
+        return (String) cached;
+    }
+
+    @Override
+    public String toSqlLiteral(String value) {
+        return "'" + UUID.fromString(value) + "'::uuid";
+    }
+
+    @Override
+    public String toString(String value) {
+        return value;
+    }
+
+    @Override
+    public String fromStringValue(CharSequence sequence) {
+        return UUID.fromString(sequence.toString()).toString();
+    }
+}
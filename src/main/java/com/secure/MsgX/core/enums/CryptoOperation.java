@@ -0,0 +1,14 @@
+package com.secure.MsgX.core.enums;
+
+/**
+ * CryptoOperation names the CPU-heavy steps scheduled on the crypto executor.
+ * PASSKEY_HASH / PASSKEY_VERIFY: Argon2 hashing and verification of a single passkey.
+ * KEY_DERIVATION: PBKDF2 derivation of a ticket's content key.
+ * ENCRYPT: Key derivation followed by encryption of a message or reply.
+ */
+public enum CryptoOperation {
+    PASSKEY_HASH,
+    PASSKEY_VERIFY,
+    KEY_DERIVATION,
+    ENCRYPT
+}
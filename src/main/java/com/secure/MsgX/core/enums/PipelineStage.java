@@ -0,0 +1,31 @@
+package com.secure.MsgX.core.enums;
+
+/**
+ * PipelineStage names the timed steps of a TicketPipeline.
+ * VERIFY_PASSKEYS / HASH_PASSKEYS: Argon2 work. DERIVE_KEY / ENCRYPT: PBKDF2 derivation (ENCRYPT includes the cipher).
+ * FETCH, SAVE_*, ADMIT_VIEW, LOAD_REPLIES: database round trips.
+ * DECRYPT is one payload; BUILD_TREE decrypts every reply of a conversation and links them into the tree.
+ */
+public enum PipelineStage {
+    VALIDATE_REQUEST,
+    BUILD_ENTITY,
+    FETCH,
+    VALIDATE_TYPE,
+    VALIDATE_STATUS,
+    VALIDATE_ACCESS_WINDOW,
+    VALIDATE_VIEW_LIMITS,
+    VERIFY_PASSKEYS,
+    DERIVE_KEY,
+    DECRYPT,
+    ENCRYPT,
+    HASH_PASSKEYS,
+    ADMIT_VIEW,
+    LOG_READ,
+    LOAD_REPLIES,
+    BUILD_TREE,
+    LOAD_PARENT_REPLY,
+    SAVE_TICKET,
+    SAVE_REPLY,
+    PUBLISH,
+    BUILD_RESPONSE
+}
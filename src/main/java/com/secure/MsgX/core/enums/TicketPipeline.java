@@ -0,0 +1,11 @@
+package com.secure.MsgX.core.enums;
+
+/**
+ * TicketPipeline names the request flows whose stages are timed by PipelineStageMetrics.
+ * VIEW covers both single-message tickets and full conversation views.
+ */
+public enum TicketPipeline {
+    CREATE,
+    VIEW,
+    REPLY
+}
@@ -0,0 +1,23 @@
+package com.secure.MsgX.core.exceptions;
+
+import lombok.Getter;
+
+/**
+ * Thrown when the crypto work queue is full or a queued task waited too long.
+ * Mapped to 503 with a Retry-After header so clients back off instead of piling on.
+ */
+@Getter
+public class CryptoCapacityExceededException extends GlobalMsgXExceptions {
+
+    private final long retryAfterSeconds;
+
+    public CryptoCapacityExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public CryptoCapacityExceededException(String message, long retryAfterSeconds, Throwable throwable) {
+        super(message, throwable);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -3,6 +3,7 @@ package com.secure.MsgX.core.exceptions;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -31,6 +32,19 @@ public class GlobalMsgXExceptionsHandler {
         ));
     }
 
+    @ExceptionHandler(CryptoCapacityExceededException.class)
+    public ResponseEntity<ErrorInfo> handleCryptoCapacityExceeded(HttpServletRequest httpServletRequest, CryptoCapacityExceededException ex) {
+        LOGGER.warn("CryptoCapacityExceededException occurred: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(new ErrorInfo(
+                        httpServletRequest.getRequestURL().toString(),
+                        "CryptoCapacityExceededException",
+                        ex.getMessage(),
+                        new Date()
+                ));
+    }
+
     @ExceptionHandler(NullPointerException.class)
     public ResponseEntity<ErrorInfo> handleNullPointerException(HttpServletRequest httpServletRequest, NullPointerException nullPointerException) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorInfo(
@@ -0,0 +1,34 @@
+package com.secure.MsgX.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Decryption and assembly of a whole conversation tree in TicketConversationBuilderService.
+ */
+@Name("com.secure.msgx.ConversationTree")
+@Label("MsgX Conversation Tree")
+@Category({"MsgX", "Conversation"})
+@Description("Decrypting the replies of a THREAD/GROUP ticket and linking them into a tree")
+@StackTrace(false)
+public class ConversationTreeEvent extends Event {
+
+    @Label("Encryption Algorithm")
+    public String encryptionAlgo;
+
+    @Label("Reply Count")
+    public int replyCount;
+
+    @Label("Top-Level Replies")
+    public int topLevelCount;
+
+    @Label("Ciphertext Size")
+    @Description("Base64 ciphertext characters across all replies")
+    @DataAmount
+    public long payloadSize;
+}
@@ -0,0 +1,103 @@
+package com.secure.MsgX.core.jfr;
+
+import com.secure.MsgX.core.enums.EncryptionAlgo;
+import com.secure.MsgX.core.enums.TicketType;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.util.Objects;
+
+/**
+ * One CryptoService call: PBKDF2 key derivation, cipher encrypt/decrypt or Argon2 hash/verify.
+ * Only sizes and counts are recorded, never keys, passkeys, salts or content.
+ * The ticket type comes from the {@link TicketTypeScope} open on the calling thread; CryptoWorkScheduler
+ * carries it over to the crypto executor, where most of this work runs.
+ */
+@Name("com.secure.msgx.Crypto")
+@Label("MsgX Crypto Operation")
+@Category({"MsgX", "Crypto"})
+@Description("Key derivation, encryption, decryption or passkey hashing performed by CryptoService")
+@StackTrace(false)
+@Threshold("1 ms")
+public class CryptoEvent extends Event {
+
+    public static final String KEY_DERIVATION = "key_derivation";
+    public static final String ENCRYPT = "encrypt";
+    public static final String DECRYPT = "decrypt";
+    public static final String PASSKEY_HASH = "passkey_hash";
+    public static final String PASSKEY_VERIFY = "passkey_verify";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Ticket Type")
+    public String ticketType;
+
+    @Label("Encryption Algorithm")
+    public String encryptionAlgo;
+
+    @Label("Payload Size")
+    @Description("Plaintext bytes for encrypt, ciphertext bytes for decrypt")
+    @DataAmount
+    public long payloadSize;
+
+    @Label("Passkey Count")
+    public int passkeyCount;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+
+    private static final ThreadLocal<TicketType> TICKET_TYPE = new ThreadLocal<>();
+
+    public static CryptoEvent start(String operation, EncryptionAlgo encryptionAlgo, int passkeyCount) {
+        CryptoEvent event = new CryptoEvent();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.ticketType = Objects.nonNull(TICKET_TYPE.get()) ? TICKET_TYPE.get().name() : null;
+            event.encryptionAlgo = Objects.nonNull(encryptionAlgo) ? encryptionAlgo.name() : null;
+            event.passkeyCount = passkeyCount;
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Tags crypto events started on this thread with the ticket type until the scope is closed.
+     * A null ticket type keeps whatever an enclosing scope set.
+     */
+    public static TicketTypeScope forTicketType(TicketType ticketType) {
+        TicketType previous = TICKET_TYPE.get();
+        if (Objects.nonNull(ticketType)) {
+            TICKET_TYPE.set(ticketType);
+        }
+        return new TicketTypeScope(previous);
+    }
+
+    public static TicketType currentTicketType() {
+        return TICKET_TYPE.get();
+    }
+
+    public static final class TicketTypeScope implements AutoCloseable {
+        private final TicketType previous;
+
+        private TicketTypeScope(TicketType previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (Objects.nonNull(previous)) {
+                TICKET_TYPE.set(previous);
+            }
+            else {
+                TICKET_TYPE.remove();
+            }
+        }
+    }
+}
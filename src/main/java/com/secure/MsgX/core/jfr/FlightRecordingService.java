@@ -0,0 +1,96 @@
+package com.secure.MsgX.core.jfr;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Continuous in-process flight recording: the JDK "default" settings overlaid with the bundled {@code jfr/msgx.jfc},
+ * kept in a ring bounded by max-age and max-size. Dump it at any time with {@code jcmd <pid> JFR.dump name=msgx};
+ * when a destination is set the recording is also written there on shutdown.
+ */
+@Slf4j
+@Component
+public class FlightRecordingService {
+
+    public static final String RECORDING_NAME = "msgx";
+    public static final String PROFILE = "jfr/msgx.jfc";
+
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final DataSize maxSize;
+    private final String destination;
+
+    private Recording recording;
+
+    public FlightRecordingService(@Value("${msgx.jfr.recording.enabled:false}") boolean enabled,
+                                  @Value("${msgx.jfr.recording.max-age:PT6H}") Duration maxAge,
+                                  @Value("${msgx.jfr.recording.max-size:250MB}") DataSize maxSize,
+                                  @Value("${msgx.jfr.recording.destination:}") String destination) {
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+        this.destination = destination;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            recording = new Recording(settings());
+            recording.setName(RECORDING_NAME);
+            recording.setToDisk(true);
+            recording.setMaxAge(maxAge);
+            recording.setMaxSize(maxSize.toBytes());
+            if (StringUtils.hasText(destination)) {
+                recording.setDestination(Path.of(destination));
+                recording.setDumpOnExit(true);
+            }
+            recording.start();
+            log.info("FlightRecordingService::start - Recording '{}' started (max age {}, max size {})", RECORDING_NAME, maxAge, maxSize);
+        }
+        catch (IOException | ParseException | IllegalStateException | SecurityException ex) {
+            // Profiling must never keep the service from starting
+            log.error("FlightRecordingService::start - Could not start the flight recording: {}", ex.getMessage());
+            recording = null;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (Objects.nonNull(recording)) {
+            // With a destination set, stop() writes the recording there
+            recording.stop();
+            recording.close();
+            log.info("FlightRecordingService::stop - Recording '{}' stopped", RECORDING_NAME);
+        }
+    }
+
+    private static Map<String, String> settings() throws IOException, ParseException {
+        Map<String, String> settings = new HashMap<>(Configuration.getConfiguration("default").getSettings());
+        try (Reader reader = new InputStreamReader(new ClassPathResource(PROFILE).getInputStream(), StandardCharsets.UTF_8)) {
+            settings.putAll(Configuration.create(reader).getSettings());
+        }
+        return settings;
+    }
+}
@@ -0,0 +1,35 @@
+package com.secure.MsgX.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One stage of the create/view/reply pipelines, mirroring the msgx.pipeline.stage timer.
+ * Crypto and repository events of the same request nest inside it on the request thread.
+ */
+@Name("com.secure.msgx.PipelineStage")
+@Label("MsgX Pipeline Stage")
+@Category({"MsgX", "Pipeline"})
+@Description("A timed stage of ticket creation, viewing or replying")
+@StackTrace(false)
+public class PipelineStageEvent extends Event {
+
+    @Label("Pipeline")
+    public String pipeline;
+
+    @Label("Stage")
+    public String stage;
+
+    @Label("Ticket Type")
+    public String ticketType;
+
+    @Label("Encryption Algorithm")
+    public String encryptionAlgo;
+
+    @Label("Outcome")
+    public String outcome;
+}
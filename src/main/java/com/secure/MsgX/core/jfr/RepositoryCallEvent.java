@@ -0,0 +1,34 @@
+package com.secure.MsgX.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * One call into a repository bean, including its transaction. Arguments are not recorded.
+ */
+@Name("com.secure.msgx.RepositoryCall")
+@Label("MsgX Repository Call")
+@Category({"MsgX", "Persistence"})
+@Description("A call into a Spring Data or JDBC repository of MsgX")
+@StackTrace(false)
+@Threshold("1 ms")
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Result Count")
+    @Description("Elements returned, rows affected for int/long results, or 0/1 for single results")
+    public long resultCount;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,106 @@
+package com.secure.MsgX.core.jfr;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Emits a {@link RepositoryCallEvent} around every call into an MsgX repository, Spring Data interfaces as well as
+ * the JDBC {@code @Repository} classes. Not ordered, so it runs after the transaction and exception-translation
+ * proxies exist and only adds an advice to them; the event therefore includes commit time.
+ */
+@Component
+public class RepositoryEventPostProcessor implements BeanPostProcessor {
+
+    private static final String REPOSITORY_PACKAGE = "com.secure.MsgX.features.repository";
+
+    private final boolean enabled;
+
+    public RepositoryEventPostProcessor(@Value("${msgx.jfr.repository-events.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !isMsgXRepository(bean)) {
+            return bean;
+        }
+        MethodInterceptor interceptor = new RepositoryCallInterceptor(beanName);
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(0, interceptor);
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(interceptor);
+        return proxyFactory.getProxy(ClassUtils.getDefaultClassLoader());
+    }
+
+    private static boolean isMsgXRepository(Object bean) {
+        Class<?> targetClass = AopUtils.getTargetClass(bean);
+        if (targetClass.getPackageName().equals(REPOSITORY_PACKAGE)) {
+            return AnnotatedElementUtils.hasAnnotation(targetClass, Repository.class);
+        }
+        // Spring Data repositories: the target is SimpleJpaRepository, the MsgX interface sits on the proxy
+        return bean instanceof org.springframework.data.repository.Repository<?, ?>
+                && ClassUtils.getAllInterfacesAsSet(bean).stream()
+                .anyMatch(type -> type.getPackageName().equals(REPOSITORY_PACKAGE));
+    }
+
+    private record RepositoryCallInterceptor(String repository) implements MethodInterceptor {
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            RepositoryCallEvent event = new RepositoryCallEvent();
+            if (!event.isEnabled()) {
+                return invocation.proceed();
+            }
+            event.begin();
+            try {
+                Object result = invocation.proceed();
+                event.resultCount = resultCount(result);
+                event.succeeded = true;
+                return result;
+            }
+            finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.repository = repository;
+                    event.method = invocation.getMethod().getName();
+                    event.commit();
+                }
+            }
+        }
+
+        private static long resultCount(Object result) {
+            if (Objects.isNull(result)) {
+                return 0;
+            }
+            if (result instanceof Collection<?> collection) {
+                return collection.size();
+            }
+            if (result instanceof Optional<?> optional) {
+                return optional.isPresent() ? 1 : 0;
+            }
+            if (result instanceof Number number) {
+                return number.longValue();
+            }
+            if (result instanceof Boolean bool) {
+                return bool ? 1 : 0;
+            }
+            return 1;
+        }
+    }
+}
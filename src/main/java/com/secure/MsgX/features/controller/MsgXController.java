@@ -1,17 +1,26 @@
 package com.secure.MsgX.features.controller;
 
+import com.secure.MsgX.features.dto.accessConversationDto.ConversationPageRequest;
+import com.secure.MsgX.features.dto.accessConversationDto.ConversationPageResponse;
 import com.secure.MsgX.features.dto.accessConversationDto.PostReplyRequest;
 import com.secure.MsgX.features.dto.accessConversationDto.PostReplyResponse;
 import com.secure.MsgX.features.dto.apiUsageDto.ApiUsageMetricsResponse;
 import com.secure.MsgX.features.dto.commonDto.UnifiedViewRequest;
+import com.secure.MsgX.features.dto.ticketCreateDto.BatchTicketCreationRequest;
+import com.secure.MsgX.features.dto.ticketCreateDto.BatchTicketCreationResponse;
 import com.secure.MsgX.features.dto.ticketCreateDto.TicketCreationRequest;
 import com.secure.MsgX.features.dto.ticketCreateDto.TicketCreationResponse;
+import com.secure.MsgX.features.dto.ticketDeleteDto.BulkTicketDeletionRequest;
+import com.secure.MsgX.features.dto.ticketDeleteDto.BulkTicketDeletionResponse;
 import com.secure.MsgX.features.service.MsgXService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -32,6 +41,15 @@ public class MsgXController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/new-tickets")
+    public ResponseEntity<BatchTicketCreationResponse> createTickets(@RequestBody BatchTicketCreationRequest batchTicketCreationRequest,
+                                                                     HttpServletRequest httpServletRequest) {
+        log.info("MsgXController::createTickets - Received batch ticket creation request");
+        BatchTicketCreationResponse response = msgXService.createSecureTickets(batchTicketCreationRequest, httpServletRequest);
+        log.info("MsgXController::createTickets - Batch processed: {} created, {} failed", response.getCreated(), response.getFailed());
+        return ResponseEntity.ok(response);
+    }
+
     @DeleteMapping("/delete/{ticketId}")
     public ResponseEntity<String> deleteTicket(@PathVariable String ticketId) {
         log.info("MsgXController::deleteTicket - Received request to permanently delete ticketId: {}", ticketId);
@@ -40,6 +58,14 @@ public class MsgXController {
         return ResponseEntity.ok(result);
     }
 
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BulkTicketDeletionResponse> deleteTickets(@RequestBody BulkTicketDeletionRequest request) {
+        log.info("MsgXController::deleteTickets - Received bulk delete request");
+        BulkTicketDeletionResponse response = msgXService.permanentlyDeleteTickets(request);
+        log.info("MsgXController::deleteTickets - Deleted {} of {} requested tickets", response.getDeleted(), response.getRequested());
+        return ResponseEntity.ok(response);
+    }
+
     @PostMapping("/view")
     public ResponseEntity<?> viewTicketContent(@RequestBody UnifiedViewRequest request, HttpServletRequest httpRequest) {
         log.info("MsgXController::viewTicketContent - Received request to view ticket: {}", request.getTicketNumber());
@@ -49,6 +75,30 @@ public class MsgXController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/conversation/page")
+    public ResponseEntity<ConversationPageResponse> viewConversationPage(@RequestBody ConversationPageRequest request, HttpServletRequest httpRequest) {
+        log.info("MsgXController::viewConversationPage - Received page request for ticket: {}", request.getTicketNumber());
+        String clientIp = httpRequest.getRemoteAddr();
+        ConversationPageResponse response = msgXService.viewConversationPage(request, clientIp);
+        log.info("MsgXController::viewConversationPage - Returned {} replies for ticket: {}", response.getReplies().size(), request.getTicketNumber());
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/conversation/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamConversation(@RequestBody UnifiedViewRequest request, HttpServletRequest httpRequest) {
+        log.info("MsgXController::streamConversation - Received stream request for ticket: {}", request.getTicketNumber());
+        String clientIp = httpRequest.getRemoteAddr();
+        StreamingResponseBody body = msgXService.streamConversation(request, clientIp);
+        return ResponseEntity.ok(body);
+    }
+
+    @PostMapping(value = "/conversation/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeToConversation(@RequestBody UnifiedViewRequest request, HttpServletRequest httpRequest) {
+        log.info("MsgXController::subscribeToConversation - Received subscription request for ticket: {}", request.getTicketNumber());
+        String clientIp = httpRequest.getRemoteAddr();
+        return msgXService.subscribeToConversation(request, clientIp);
+    }
+
     @PostMapping("/replies")
     public ResponseEntity<PostReplyResponse> replyToTicket(@RequestBody PostReplyRequest request, HttpServletRequest httpRequest) {
         log.info("MsgXController::postReply - Received request to post reply to ticket: {}", request.getTicketNumber());
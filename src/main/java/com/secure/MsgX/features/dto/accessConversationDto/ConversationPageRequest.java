@@ -0,0 +1,28 @@
+package com.secure.MsgX.features.dto.accessConversationDto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.secure.MsgX.features.dto.commonDto.PasskeyEntry;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class ConversationPageRequest {
+
+    @JsonProperty("ticket_number")
+    private String ticketNumber;
+
+    @JsonProperty("passkeys")
+    private List<PasskeyEntry> passkeys;
+
+    /**
+     * Opaque cursor from a previous page's next_cursor. Omit it to open the conversation from its first reply.
+     */
+    @JsonProperty("cursor")
+    private String cursor;
+
+    @JsonProperty("limit")
+    private Integer limit;
+}
@@ -0,0 +1,51 @@
+package com.secure.MsgX.features.dto.accessConversationDto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.List;
+
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ConversationPageResponse {
+
+    @JsonProperty("ticket_number")
+    private String ticketNumber;
+
+    /**
+     * Only returned on the first page, i.e. when the request carried no cursor.
+     */
+    @JsonProperty("decrypted_content")
+    private String decryptedContent;
+
+    @JsonProperty("max_views")
+    private Long maxViews;
+
+    @JsonProperty("remaining_views")
+    private Long remainingViews;
+
+    @JsonProperty("ticket_status")
+    private String ticketStatus;
+
+    @JsonProperty("read_at")
+    private Instant readAt;
+
+    /**
+     * Replies in creation order, flat; clients rebuild threads from parent_reply_id.
+     */
+    @JsonProperty("replies")
+    private List<ConversationReplyItem> replies;
+
+    /**
+     * Pass back as cursor to get the next page, or later to poll for replies posted since.
+     */
+    @JsonProperty("next_cursor")
+    private String nextCursor;
+
+    @JsonProperty("has_more")
+    private boolean hasMore;
+}
@@ -0,0 +1,28 @@
+package com.secure.MsgX.features.dto.accessConversationDto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ConversationReplyItem {
+
+    @JsonProperty("reply_id")
+    private String replyId;
+
+    @JsonProperty("parent_reply_id")
+    private String parentReplyId;
+
+    @JsonProperty("decrypted_content")
+    private String decryptedContent;
+
+    @JsonProperty("created_at")
+    private Instant createdAt;
+}
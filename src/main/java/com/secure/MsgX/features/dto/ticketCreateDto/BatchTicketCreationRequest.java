@@ -0,0 +1,19 @@
+package com.secure.MsgX.features.dto.ticketCreateDto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BatchTicketCreationRequest {
+
+    /**
+     * Tickets to create. Each item is validated and created independently;
+     * a failing item does not affect the others.
+     */
+    @JsonProperty("tickets")
+    private List<TicketCreationRequest> tickets;
+}
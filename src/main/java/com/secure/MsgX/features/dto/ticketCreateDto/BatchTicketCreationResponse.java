@@ -0,0 +1,26 @@
+package com.secure.MsgX.features.dto.ticketCreateDto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class BatchTicketCreationResponse {
+
+    @JsonProperty("total")
+    private int total;
+
+    @JsonProperty("created")
+    private int created;
+
+    @JsonProperty("failed")
+    private int failed;
+
+    @JsonProperty("results")
+    private List<BatchTicketItemResult> results;
+}
@@ -0,0 +1,40 @@
+package com.secure.MsgX.features.dto.ticketCreateDto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchTicketItemResult {
+
+    public static final String CREATED = "CREATED";
+    public static final String FAILED = "FAILED";
+
+    /**
+     * Position of the item in the request's tickets list.
+     */
+    @JsonProperty("index")
+    private int index;
+
+    @JsonProperty("status")
+    private String status;
+
+    @JsonProperty("ticket")
+    private TicketCreationResponse ticket;
+
+    @JsonProperty("error")
+    private String error;
+
+    public static BatchTicketItemResult created(int index, TicketCreationResponse ticket) {
+        return new BatchTicketItemResult(index, CREATED, ticket, null);
+    }
+
+    public static BatchTicketItemResult failed(int index, String error) {
+        return new BatchTicketItemResult(index, FAILED, null, error);
+    }
+}
@@ -0,0 +1,18 @@
+package com.secure.MsgX.features.dto.ticketDeleteDto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BulkTicketDeletionRequest {
+
+    /**
+     * Internal ticket IDs (as returned at creation) to delete permanently.
+     */
+    @JsonProperty("ticket_ids")
+    private List<String> ticketIds;
+}
@@ -0,0 +1,29 @@
+package com.secure.MsgX.features.dto.ticketDeleteDto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+public class BulkTicketDeletionResponse {
+
+    @JsonProperty("requested")
+    private int requested;
+
+    @JsonProperty("deleted")
+    private int deleted;
+
+    @JsonProperty("deleted_ticket_ids")
+    private List<String> deletedTicketIds;
+
+    /**
+     * IDs that did not match any ticket; they may have been deleted already or never existed.
+     */
+    @JsonProperty("not_found_ticket_ids")
+    private List<String> notFoundTicketIds;
+}
@@ -1,15 +1,27 @@
 package com.secure.MsgX.features.repository;
 
 import com.secure.MsgX.core.entity.ApiUsageMetrics;
+import com.secure.MsgX.core.enums.TicketType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface ApiUsageMetricsRepository extends JpaRepository<ApiUsageMetrics, String> {
     @Query("SELECT a FROM ApiUsageMetrics a ORDER BY a.hitCount DESC")
     List<ApiUsageMetrics> findAllOrderByHitCountDesc();
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ApiUsageMetrics a SET a.hitCount = a.hitCount + :delta " +
+            "WHERE a.httpMethod = :httpMethod AND a.apiEndpoint = :apiEndpoint AND a.ticketType = :ticketType")
+    int incrementHitCount(@Param("httpMethod") String httpMethod,
+                          @Param("apiEndpoint") String apiEndpoint,
+                          @Param("ticketType") TicketType ticketType,
+                          @Param("delta") long delta);
 }
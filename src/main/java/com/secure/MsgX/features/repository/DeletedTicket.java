@@ -0,0 +1,9 @@
+package com.secure.MsgX.features.repository;
+
+import com.secure.MsgX.core.enums.TicketType;
+
+/**
+ * A ticket removed by {@link TicketDeletionRepository}, as returned by its DELETE ... RETURNING.
+ */
+public record DeletedTicket(String ticketId, TicketType ticketType) {
+}
@@ -0,0 +1,36 @@
+package com.secure.MsgX.features.repository;
+
+import com.secure.MsgX.core.entity.id.TimeOrderedUuidGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JDBC batch inserts of read logs queued by ReadLogWriter.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReadLogBatchRepository {
+
+    private static final String INSERT_READ_LOG = "INSERT INTO read_log (read_log_id, read_at, read_by_ip_address, ticket_id) " +
+            "VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<ReadLogRow> rows) {
+        jdbcTemplate.batchUpdate(INSERT_READ_LOG, rows, rows.size(), (ps, row) -> {
+            ps.setObject(1, TimeOrderedUuidGenerator.nextUuid());
+            ps.setTimestamp(2, Timestamp.from(row.readAt()));
+            ps.setString(3, row.readByIpAddress());
+            ps.setObject(4, UUID.fromString(row.ticketId()));
+        });
+    }
+
+    public record ReadLogRow(String ticketId, Instant readAt, String readByIpAddress) {
+    }
+}
@@ -1,15 +1,45 @@
 package com.secure.MsgX.features.repository;
 
 import com.secure.MsgX.core.entity.Reply;
-import com.secure.MsgX.core.entity.Ticket;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface ReplyRepository extends JpaRepository<Reply, String> {
-    @EntityGraph(attributePaths = {"childReplies"})
-    List<Reply> findByTicketAndParentReplyIsNullOrderByCreatedAtAsc(Ticket ticket);
+
+    /**
+     * Every reply of the ticket in one query, in replySeq order, served by the (ticket_id, reply_seq) index.
+     * The tree is assembled in memory, so the query count does not grow with thread depth.
+     */
+    @Query("SELECT new com.secure.MsgX.features.repository.ReplyRow(" +
+            "r.replyId, r.replySeq, p.replyId, r.createdAt, r.encryptedContent, r.iv) " +
+            "FROM Reply r LEFT JOIN r.parentReply p WHERE r.ticket.ticketId = :ticketId " +
+            "ORDER BY r.replySeq ASC")
+    List<ReplyRow> findConversationRows(@Param("ticketId") String ticketId);
+
+    /**
+     * First page of a conversation in replySeq order, served by the (ticket_id, reply_seq) index.
+     */
+    @Query("SELECT new com.secure.MsgX.features.repository.ReplyRow(" +
+            "r.replyId, r.replySeq, p.replyId, r.createdAt, r.encryptedContent, r.iv) " +
+            "FROM Reply r LEFT JOIN r.parentReply p WHERE r.ticket.ticketId = :ticketId " +
+            "ORDER BY r.replySeq ASC")
+    List<ReplyRow> findConversationPage(@Param("ticketId") String ticketId, Limit limit);
+
+    /**
+     * Replies strictly after the cursor position, so the cost is the page size rather than the offset.
+     */
+    @Query("SELECT new com.secure.MsgX.features.repository.ReplyRow(" +
+            "r.replyId, r.replySeq, p.replyId, r.createdAt, r.encryptedContent, r.iv) " +
+            "FROM Reply r LEFT JOIN r.parentReply p WHERE r.ticket.ticketId = :ticketId " +
+            "AND r.replySeq > :afterSeq " +
+            "ORDER BY r.replySeq ASC")
+    List<ReplyRow> findConversationPageAfter(@Param("ticketId") String ticketId,
+                                             @Param("afterSeq") long afterSeq,
+                                             Limit limit);
 }
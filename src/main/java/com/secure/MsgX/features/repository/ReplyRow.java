@@ -0,0 +1,15 @@
+package com.secure.MsgX.features.repository;
+
+import java.time.Instant;
+
+/**
+ * Flat, read-only view of a reply used to rebuild a conversation without loading managed entities.
+ * {@code parentReplyId} is null for top-level replies.
+ */
+public record ReplyRow(String replyId,
+                       long replySeq,
+                       String parentReplyId,
+                       Instant createdAt,
+                       String encryptedContent,
+                       String iv) {
+}
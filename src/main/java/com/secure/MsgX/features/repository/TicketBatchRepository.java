@@ -0,0 +1,79 @@
+package com.secure.MsgX.features.repository;
+
+import com.secure.MsgX.core.entity.Passkey;
+import com.secure.MsgX.core.entity.Ticket;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * JDBC batch inserts for bulk ticket creation. Bypasses the persistence context, so ids and timestamps
+ * must already be set on the entities; nothing is read back.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TicketBatchRepository {
+
+    private static final String INSERT_TICKET = "INSERT INTO ticket (ticket_id, ticket_number, created_at, updated_at, " +
+            "expires_at, open_from, open_until, creator_ip_address, ticket_status, encryption_algo, ticket_type, " +
+            "max_views, count_views, encrypted_message, salt, allow_replies, initialization_vector) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_PASSKEY = "INSERT INTO passkey (passkey_id, passkey_hash, key_order, ticket_id) " +
+            "VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the tickets and their passkeys in one transaction, one JDBC batch per table.
+     */
+    @Transactional
+    public void insertAll(List<Ticket> tickets) {
+        jdbcTemplate.batchUpdate(INSERT_TICKET, tickets, tickets.size(), (ps, ticket) -> {
+            ps.setObject(1, UUID.fromString(ticket.getTicketId()));
+            ps.setString(2, ticket.getTicketNumber());
+            ps.setTimestamp(3, toTimestamp(ticket.getCreatedAt()));
+            ps.setTimestamp(4, toTimestamp(ticket.getUpdatedAt()));
+            ps.setTimestamp(5, toTimestamp(ticket.getExpiresAt()));
+            ps.setTimestamp(6, toTimestamp(ticket.getOpenFrom()));
+            ps.setTimestamp(7, toTimestamp(ticket.getOpenUntil()));
+            ps.setString(8, ticket.getCreatorIpAddress());
+            ps.setString(9, ticket.getTicketStatus().name());
+            ps.setString(10, ticket.getEncryptionAlgo().name());
+            ps.setString(11, ticket.getTicketType().name());
+            if (Objects.nonNull(ticket.getMaxViews())) {
+                ps.setLong(12, ticket.getMaxViews());
+            }
+            else {
+                ps.setNull(12, Types.BIGINT);
+            }
+            ps.setLong(13, ticket.getCountViews());
+            ps.setString(14, ticket.getEncryptedMessage());
+            ps.setString(15, ticket.getSalt());
+            ps.setBoolean(16, ticket.isAllowReplies());
+            ps.setString(17, ticket.getIv());
+        });
+
+        List<Passkey> passkeys = tickets.stream()
+                .flatMap(ticket -> ticket.getPasskeys().stream())
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_PASSKEY, passkeys, passkeys.size(), (ps, passkey) -> {
+            ps.setObject(1, UUID.fromString(passkey.getPasskeyId()));
+            ps.setString(2, passkey.getPasskeyHash());
+            ps.setInt(3, passkey.getKeyOrder());
+            ps.setObject(4, UUID.fromString(passkey.getTicket().getTicketId()));
+        });
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return Objects.nonNull(instant) ? Timestamp.from(instant) : null;
+    }
+}
@@ -0,0 +1,61 @@
+package com.secure.MsgX.features.repository;
+
+import com.secure.MsgX.core.enums.TicketType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Deletes tickets with one set-based DELETE per child table instead of loading the entity graph.
+ * All deletes run as data-modifying CTEs of a single statement, so they share one transaction and snapshot,
+ * and the foreign keys are only checked once every row of the set is gone.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TicketDeletionRepository {
+
+    static final RowMapper<DeletedTicket> DELETED_TICKET = (rs, rowNum) -> new DeletedTicket(
+            rs.getString("ticket_id"),
+            Objects.nonNull(rs.getString("ticket_type")) ? TicketType.valueOf(rs.getString("ticket_type")) : null);
+
+    // Rows are locked in key order so overlapping bulk deletes cannot deadlock
+    private static final String DELETE_BY_IDS = cascadeDelete(
+            "SELECT ticket_id FROM ticket WHERE ticket_id = ANY (?) ORDER BY ticket_id FOR UPDATE");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Builds the cascading delete for the tickets selected by {@code doomedTickets}, a query returning ticket_id
+     * that should lock the rows it selects. The statement returns (ticket_id, ticket_type) of every deleted ticket.
+     */
+    static String cascadeDelete(String doomedTickets) {
+        return "WITH doomed AS (" + doomedTickets + "), " +
+                "read_logs AS (DELETE FROM read_log WHERE ticket_id IN (SELECT ticket_id FROM doomed)), " +
+                "passkeys AS (DELETE FROM passkey WHERE ticket_id IN (SELECT ticket_id FROM doomed)), " +
+                "replies AS (DELETE FROM reply WHERE ticket_id IN (SELECT ticket_id FROM doomed)), " +
+                "children AS (UPDATE ticket SET parent_ticket_id = NULL " +
+                "WHERE parent_ticket_id IN (SELECT ticket_id FROM doomed) AND ticket_id NOT IN (SELECT ticket_id FROM doomed)) " +
+                "DELETE FROM ticket WHERE ticket_id IN (SELECT ticket_id FROM doomed) RETURNING ticket_id, ticket_type";
+    }
+
+    /**
+     * Deletes the given tickets with their passkeys, replies and read logs. Ids that do not exist are ignored.
+     */
+    public List<DeletedTicket> deleteByIds(Collection<String> ticketIds) {
+        if (ticketIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(DELETE_BY_IDS);
+            statement.setArray(1, connection.createArrayOf("uuid", ticketIds.stream().map(UUID::fromString).toArray()));
+            return statement;
+        }, DELETED_TICKET);
+    }
+}
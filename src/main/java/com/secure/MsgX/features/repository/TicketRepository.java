@@ -1,12 +1,52 @@
 package com.secure.MsgX.features.repository;
 
 import com.secure.MsgX.core.entity.Ticket;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Repository
 public interface TicketRepository extends JpaRepository<Ticket,String> {
+    /**
+     * Entry point of every view and reply; loads the ticket and its passkeys in one query
+     * through the unique index on ticket_number.
+     */
+    @EntityGraph(attributePaths = {"passkeys"})
     Optional<Ticket> findByTicketNumber(String ticketNumber);
+
+    /**
+     * Admits one view in a single statement: increments count_views only while the ticket is OPEN
+     * and below max_views. Returns the new count, or empty when the view was refused.
+     */
+    @Transactional
+    @Query(value = "UPDATE ticket SET count_views = count_views + 1 " +
+            "WHERE ticket_id = CAST(:ticketId AS uuid) AND ticket_status = 'OPEN' " +
+            "AND (max_views IS NULL OR count_views < max_views) " +
+            "RETURNING count_views", nativeQuery = true)
+    Optional<Long> admitView(@Param("ticketId") String ticketId);
+
+    /**
+     * Reserves up to {@code blockSize} view slots at once, capped at max_views. Returns empty when none are left.
+     */
+    @Transactional
+    @Query(value = "UPDATE ticket t SET count_views = LEAST(t.count_views + :blockSize, t.max_views) " +
+            "FROM (SELECT ticket_id, count_views FROM ticket WHERE ticket_id = CAST(:ticketId AS uuid) FOR UPDATE) previous " +
+            "WHERE t.ticket_id = previous.ticket_id AND t.ticket_status = 'OPEN' AND t.count_views < t.max_views " +
+            "RETURNING previous.count_views AS \"previousCount\", t.count_views AS \"newCount\"", nativeQuery = true)
+    Optional<ViewSlotGrant> reserveViewSlots(@Param("ticketId") String ticketId, @Param("blockSize") long blockSize);
+
+    /**
+     * Moves an OPEN ticket to VIEW_LIMIT_REACHED once its stored count has reached max_views.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE ticket SET ticket_status = 'VIEW_LIMIT_REACHED', updated_at = now() " +
+            "WHERE ticket_id = CAST(:ticketId AS uuid) AND ticket_status = 'OPEN' AND count_views >= max_views", nativeQuery = true)
+    int markViewLimitReached(@Param("ticketId") String ticketId);
 }
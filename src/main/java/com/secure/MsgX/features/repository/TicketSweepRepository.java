@@ -0,0 +1,87 @@
+package com.secure.MsgX.features.repository;
+
+import com.secure.MsgX.core.enums.TicketStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Set-based statements used by the expiry sweeper. Each call handles at most {@code limit} tickets and locks them
+ * with {@code FOR UPDATE SKIP LOCKED}, so sweepers on several replicas work on disjoint batches and never wait
+ * on each other or on a viewer holding a ticket row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TicketSweepRepository {
+
+    private static final String EXPIRE_PAST = "WITH due AS (" +
+            "SELECT ticket_id FROM ticket WHERE ticket_status = 'OPEN' AND %s < now() LIMIT ? FOR UPDATE SKIP LOCKED) " +
+            "UPDATE ticket t SET ticket_status = 'EXPIRED', updated_at = now() FROM due " +
+            "WHERE t.ticket_id = due.ticket_id RETURNING t.ticket_id";
+
+    private static final String COUNT_DUE = "SELECT count(*) FROM (SELECT 1 FROM ticket WHERE ticket_status = 'OPEN' " +
+            "AND (expires_at < now() OR open_until < now()) LIMIT ?) due";
+
+    private static final String PURGE = TicketDeletionRepository.cascadeDelete(
+            "SELECT ticket_id FROM ticket WHERE ticket_status = ANY (?) AND updated_at < ? LIMIT ? FOR UPDATE SKIP LOCKED");
+
+    private static final String COUNT_PURGEABLE = "SELECT count(*) FROM (SELECT 1 FROM ticket " +
+            "WHERE ticket_status = ANY (?) AND updated_at < ? LIMIT ?) purgeable";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Moves up to {@code limit} OPEN tickets whose expires_at has passed to EXPIRED.
+     */
+    public List<String> expirePastExpiresAt(int limit) {
+        return jdbcTemplate.query(EXPIRE_PAST.formatted("expires_at"), (rs, rowNum) -> rs.getString(1), limit);
+    }
+
+    /**
+     * Moves up to {@code limit} OPEN tickets whose access window (open_until) has ended to EXPIRED.
+     */
+    public List<String> expirePastOpenUntil(int limit) {
+        return jdbcTemplate.query(EXPIRE_PAST.formatted("open_until"), (rs, rowNum) -> rs.getString(1), limit);
+    }
+
+    /**
+     * Deletes up to {@code limit} tickets in one of {@code statuses} that have not changed since {@code cutoff},
+     * together with their passkeys, replies and read logs.
+     */
+    public List<String> purge(Collection<TicketStatus> statuses, Instant cutoff, int limit) {
+        return jdbcTemplate.query(connection -> byStatusAndCutoff(connection, PURGE, statuses, cutoff, limit),
+                TicketDeletionRepository.DELETED_TICKET).stream().map(DeletedTicket::ticketId).toList();
+    }
+
+    /**
+     * OPEN tickets already past their expiry, counted up to {@code cap} so the query stays cheap on a large backlog.
+     */
+    public long countDueForExpiry(int cap) {
+        Long count = jdbcTemplate.queryForObject(COUNT_DUE, Long.class, cap);
+        return Objects.nonNull(count) ? count : 0;
+    }
+
+    public long countPurgeable(Collection<TicketStatus> statuses, Instant cutoff, int cap) {
+        List<Long> counts = jdbcTemplate.query(connection -> byStatusAndCutoff(connection, COUNT_PURGEABLE, statuses, cutoff, cap),
+                (rs, rowNum) -> rs.getLong(1));
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+
+    private static PreparedStatement byStatusAndCutoff(Connection connection, String sql, Collection<TicketStatus> statuses,
+                                                       Instant cutoff, int limit) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql);
+        statement.setArray(1, connection.createArrayOf("varchar", statuses.stream().map(Enum::name).toArray()));
+        statement.setTimestamp(2, Timestamp.from(cutoff));
+        statement.setInt(3, limit);
+        return statement;
+    }
+}
@@ -0,0 +1,10 @@
+package com.secure.MsgX.features.repository;
+
+/**
+ * Result of reserving a block of view slots: the ticket's count_views before and after the reservation.
+ * Slots {@code previousCount + 1 .. newCount} belong to the caller.
+ */
+public interface ViewSlotGrant {
+    Long getPreviousCount();
+    Long getNewCount();
+}
@@ -0,0 +1,58 @@
+package com.secure.MsgX.features.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Leases of Snowflake worker ids in {@code id_worker_lease}. All timestamps use the database clock,
+ * so instances with skewed clocks still agree on when a lease has expired.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WorkerLeaseRepository {
+
+    // Oldest expired lease first, so a worker id just given up is the last one to be reused
+    private static final String ACQUIRE = "UPDATE id_worker_lease SET instance_id = ?, " +
+            "leased_until = now() + make_interval(secs => ?), heartbeat_at = now() " +
+            "WHERE worker_id = (SELECT worker_id FROM id_worker_lease " +
+            "WHERE leased_until < now() - make_interval(secs => ?) " +
+            "ORDER BY leased_until, worker_id LIMIT 1 FOR UPDATE SKIP LOCKED) " +
+            "RETURNING worker_id";
+
+    private static final String RENEW = "UPDATE id_worker_lease SET leased_until = now() + make_interval(secs => ?), " +
+            "heartbeat_at = now() WHERE worker_id = ? AND instance_id = ? AND leased_until >= now()";
+
+    private static final String RELEASE = "UPDATE id_worker_lease SET leased_until = now() " +
+            "WHERE worker_id = ? AND instance_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Takes a worker id whose lease expired more than {@code grace} ago; empty when all are in use.
+     */
+    public Optional<Integer> acquire(String instanceId, Duration ttl, Duration grace) {
+        List<Integer> workerIds = jdbcTemplate.query(ACQUIRE, (rs, rowNum) -> rs.getInt(1),
+                instanceId, seconds(ttl), seconds(grace));
+        return workerIds.stream().findFirst();
+    }
+
+    /**
+     * @return false when the lease already expired or was taken over, in which case the worker id must no longer be used
+     */
+    public boolean renew(int workerId, String instanceId, Duration ttl) {
+        return jdbcTemplate.update(RENEW, seconds(ttl), workerId, instanceId) == 1;
+    }
+
+    public void release(int workerId, String instanceId) {
+        jdbcTemplate.update(RELEASE, workerId, instanceId);
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toMillis() / 1000.0;
+    }
+}
@@ -1,22 +1,35 @@
 package com.secure.MsgX.features.service;
 
 import com.secure.MsgX.core.enums.TicketType;
+import com.secure.MsgX.features.dto.accessConversationDto.ConversationPageRequest;
+import com.secure.MsgX.features.dto.accessConversationDto.ConversationPageResponse;
 import com.secure.MsgX.features.dto.accessConversationDto.PostReplyRequest;
 import com.secure.MsgX.features.dto.accessConversationDto.PostReplyResponse;
 import com.secure.MsgX.features.dto.apiUsageDto.ApiUsageMetricsResponse;
 import com.secure.MsgX.features.dto.commonDto.UnifiedViewRequest;
 import com.secure.MsgX.features.dto.accessConversationDto.ViewConversationResponse;
 import com.secure.MsgX.features.dto.accessDto.ViewTicketResponse;
+import com.secure.MsgX.features.dto.ticketCreateDto.BatchTicketCreationRequest;
+import com.secure.MsgX.features.dto.ticketCreateDto.BatchTicketCreationResponse;
 import com.secure.MsgX.features.dto.ticketCreateDto.TicketCreationRequest;
 import com.secure.MsgX.features.dto.ticketCreateDto.TicketCreationResponse;
+import com.secure.MsgX.features.dto.ticketDeleteDto.BulkTicketDeletionRequest;
+import com.secure.MsgX.features.dto.ticketDeleteDto.BulkTicketDeletionResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
 public interface MsgXService {
     TicketCreationResponse createSecureTicket(TicketCreationRequest ticketCreationRequest, HttpServletRequest httpServletRequest);
+    BatchTicketCreationResponse createSecureTickets(BatchTicketCreationRequest batchRequest, HttpServletRequest httpServletRequest);
     String permanentlyDeleteTicket(String ticketId);
+    BulkTicketDeletionResponse permanentlyDeleteTickets(BulkTicketDeletionRequest request);
     Object viewUnifiedTicket(UnifiedViewRequest request, String clientIp);
+    ConversationPageResponse viewConversationPage(ConversationPageRequest request, String clientIp);
+    StreamingResponseBody streamConversation(UnifiedViewRequest request, String clientIp);
+    SseEmitter subscribeToConversation(UnifiedViewRequest request, String clientIp);
     PostReplyResponse postReply(PostReplyRequest request, String clientIp);
     public List<ApiUsageMetricsResponse> getApiUsageMetrics();
 }
@@ -2,36 +2,67 @@ package com.secure.MsgX.features.service;
 
 
 import com.secure.MsgX.core.config.ApiUsageConstants;
-import com.secure.MsgX.core.entity.ApiUsageMetrics;
 import com.secure.MsgX.core.entity.Reply;
 import com.secure.MsgX.core.entity.Ticket;
-import com.secure.MsgX.core.enums.TicketStatus;
+import com.secure.MsgX.core.entity.id.UuidStringType;
+import com.secure.MsgX.core.enums.CryptoOperation;
+import com.secure.MsgX.core.enums.PipelineStage;
+import com.secure.MsgX.core.enums.TicketPipeline;
 import com.secure.MsgX.core.enums.TicketType;
+import com.secure.MsgX.core.exceptions.CryptoCapacityExceededException;
 import com.secure.MsgX.core.exceptions.GlobalMsgXExceptions;
+import com.secure.MsgX.core.jfr.CryptoEvent;
 import com.secure.MsgX.features.dto.accessConversationDto.*;
 import com.secure.MsgX.features.dto.apiUsageDto.ApiUsageMetricsResponse;
 import com.secure.MsgX.features.dto.commonDto.PasskeyEntry;
 import com.secure.MsgX.features.dto.commonDto.UnifiedViewRequest;
 import com.secure.MsgX.features.dto.accessDto.ViewTicketResponse;
+import com.secure.MsgX.features.dto.ticketCreateDto.BatchTicketCreationRequest;
+import com.secure.MsgX.features.dto.ticketCreateDto.BatchTicketCreationResponse;
+import com.secure.MsgX.features.dto.ticketCreateDto.BatchTicketItemResult;
 import com.secure.MsgX.features.dto.ticketCreateDto.TicketCreationRequest;
 import com.secure.MsgX.features.dto.ticketCreateDto.TicketCreationResponse;
-import com.secure.MsgX.features.repository.ApiUsageMetricsRepository;
+import com.secure.MsgX.features.dto.ticketDeleteDto.BulkTicketDeletionRequest;
+import com.secure.MsgX.features.dto.ticketDeleteDto.BulkTicketDeletionResponse;
+import com.secure.MsgX.features.repository.DeletedTicket;
 import com.secure.MsgX.features.repository.ReplyRepository;
+import com.secure.MsgX.features.repository.ReplyRow;
 import com.secure.MsgX.features.repository.TicketRepository;
 import com.secure.MsgX.features.utility.accessUtil.TicketViewBuilderService;
+import com.secure.MsgX.features.utility.accessUtil.ViewAdmissionService;
+import com.secure.MsgX.features.utility.apiUsageUtil.ApiUsageCounterRegistry;
 import com.secure.MsgX.features.utility.commonUtil.CryptoService;
+import com.secure.MsgX.features.utility.commonUtil.CryptoWorkScheduler;
+import com.secure.MsgX.features.utility.commonUtil.DerivedKey;
+import com.secure.MsgX.features.utility.commonUtil.DerivedKeyCache;
 import com.secure.MsgX.features.utility.commonUtil.IpAddressService;
+import com.secure.MsgX.features.utility.commonUtil.PipelineStageMetrics;
+import com.secure.MsgX.features.utility.commonUtil.SealedEnvelope;
+import com.secure.MsgX.features.utility.conversationUtil.ConversationCursor;
+import com.secure.MsgX.features.utility.conversationUtil.ConversationCursorCodec;
+import com.secure.MsgX.features.utility.conversationUtil.ConversationPageReader;
+import com.secure.MsgX.features.utility.conversationUtil.ConversationStreamWriter;
+import com.secure.MsgX.features.utility.conversationUtil.ReplyEventBus;
 import com.secure.MsgX.features.utility.conversationUtil.TicketConversationBuilderService;
 import com.secure.MsgX.features.utility.ticketCreateUtil.*;
+import com.secure.MsgX.features.utility.ticketDeleteUtil.TicketDeletionService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 
+import java.time.Instant;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 
@@ -41,21 +72,35 @@ import java.util.stream.Collectors;
 public class MsgXServiceImpl implements MsgXService{
 
     private final CryptoService cryptoService;
+    private final DerivedKeyCache derivedKeyCache;
+    private final CryptoWorkScheduler cryptoWorkScheduler;
+    private final PipelineStageMetrics pipelineStageMetrics;
 
-    private final ApiUsageMetricsRepository apiUsageMetricsRepository;
+    private final ApiUsageCounterRegistry apiUsageCounterRegistry;
+    private final ViewAdmissionService viewAdmissionService;
     private final TicketRepository ticketRepository;
     private final ReplyRepository replyRepository;
 
     private final TicketCreationRequestValidator ticketCreationRequestValidator;
 
     private final TicketBuilderService ticketBuilderService;
+    private final BatchTicketCreationService batchTicketCreationService;
     private final TicketViewBuilderService ticketViewBuilderService;
     private final TicketConversationBuilderService ticketConversationBuilderService;
+    private final ConversationPageReader conversationPageReader;
+    private final ConversationCursorCodec conversationCursorCodec;
+    private final ConversationStreamWriter conversationStreamWriter;
+    private final ReplyEventBus replyEventBus;
+    private final TicketDeletionService ticketDeletionService;
 
     @Override
     public TicketCreationResponse createSecureTicket(TicketCreationRequest ticketCreationRequest, HttpServletRequest httpServletRequest) {
         log.info("MsgXServiceImpl::createSecureTicket - Validating ticket request");
-        ticketCreationRequestValidator.validateRequest(ticketCreationRequest);
+        pipelineStageMetrics.time(TicketPipeline.CREATE, PipelineStage.VALIDATE_REQUEST,
+                ticketCreationRequest.getTicketType(), ticketCreationRequest.getEncryptionAlgo(), () -> {
+                    ticketCreationRequestValidator.validateRequest(ticketCreationRequest);
+                    return null;
+                });
         log.info("MsgXServiceImpl::createSecureTicket - Validation passed, proceeding with ticket creation");
 
         String hashIpAddress = IpAddressService.extractAndHashIp(httpServletRequest);
@@ -64,32 +109,42 @@ public class MsgXServiceImpl implements MsgXService{
             // 1. Create and configure ticket entity
             log.info("MsgXServiceImpl::createSecureTicket - Creating ticket entity");
             Ticket ticket = new Ticket();
-            ticketBuilderService.configureTicketEntity(ticketCreationRequest, ticket, hashIpAddress);
+            pipelineStageMetrics.time(TicketPipeline.CREATE, PipelineStage.BUILD_ENTITY,
+                    ticketCreationRequest.getTicketType(), ticketCreationRequest.getEncryptionAlgo(), () -> {
+                        ticketBuilderService.configureTicketEntity(ticketCreationRequest, ticket, hashIpAddress);
+                        return null;
+                    });
             log.info("MsgXServiceImpl::createSecureTicket - Ticket entity configured");
 
             // 2. Encrypt message content
             log.info("MsgXServiceImpl::createSecureTicket - Encrypting message content");
-            ticketBuilderService.encryptMessageContent(ticketCreationRequest, ticket);
+            pipelineStageMetrics.run(TicketPipeline.CREATE, PipelineStage.ENCRYPT, ticket,
+                    () -> ticketBuilderService.encryptMessageContent(ticketCreationRequest, ticket));
             log.info("MsgXServiceImpl::createSecureTicket - Message content encrypted");
 
-            // 3. Save ticket and passkeys
-            log.info("MsgXServiceImpl::createSecureTicket - Saving ticket entity");
-            Ticket savedTicket = ticketRepository.save(ticket);
-            log.info("MsgXServiceImpl::createSecureTicket - Ticket saved with id: {}", savedTicket.getTicketId());
+            // 3. Hash passkeys, then save the ticket together with them
+            log.info("MsgXServiceImpl::createSecureTicket - Hashing passkeys");
+            ticketBuilderService.attachPasskeys(ticketCreationRequest.getPasskeys(), ticket);
+            log.info("MsgXServiceImpl::createSecureTicket - Passkeys hashed");
 
-            log.info("MsgXServiceImpl::createSecureTicket - Saving passkeys");
-            ticketBuilderService.savePasskeys(ticketCreationRequest.getPasskeys(), savedTicket);
-            log.info("MsgXServiceImpl::createSecureTicket - Passkeys saved");
+            log.info("MsgXServiceImpl::createSecureTicket - Saving ticket entity and passkeys");
+            Ticket savedTicket = pipelineStageMetrics.time(TicketPipeline.CREATE, PipelineStage.SAVE_TICKET, ticket,
+                    () -> ticketRepository.save(ticket));
+            log.info("MsgXServiceImpl::createSecureTicket - Ticket saved with id: {}", savedTicket.getTicketId());
 
             // 4. Build and return response
             log.info("MsgXServiceImpl::createSecureTicket - Building creation response");
-            TicketCreationResponse response = ticketBuilderService.buildCreationResponse(savedTicket, ticketCreationRequest.getPasskeys());
+            TicketCreationResponse response = pipelineStageMetrics.time(TicketPipeline.CREATE, PipelineStage.BUILD_RESPONSE, savedTicket,
+                    () -> ticketBuilderService.buildCreationResponse(savedTicket, ticketCreationRequest.getPasskeys()));
             log.info("MsgXServiceImpl::createSecureTicket - Ticket creation response built");
 
             recordUsage(ApiUsageConstants.POST, ApiUsageConstants.NEW_TICKET, ticketCreationRequest.getTicketType());
 
             return response;
         }
+        catch (CryptoCapacityExceededException ex) {
+            throw ex;
+        }
         catch (Exception ex) {
             log.error("Ticket creation failed: {}", ex.getMessage(), ex);
             throw new GlobalMsgXExceptions("Failed to create secure ticket: " + ex.getMessage());
@@ -97,24 +152,57 @@ public class MsgXServiceImpl implements MsgXService{
     }
 
     @Override
-    public String permanentlyDeleteTicket(String ticketId) {
-        log.info("MsgXServiceImpl::permanentlyDeleteTicket - Received request to permanently delete ticketId: {}", ticketId);
-        return ticketRepository.findById(ticketId).map(ticket -> {
-            ticketRepository.delete(ticket);
-            log.info("MsgXServiceImpl::permanentlyDeleteTicket - Ticket with ID {} permanently deleted.", ticketId);
+    public BatchTicketCreationResponse createSecureTickets(BatchTicketCreationRequest batchRequest, HttpServletRequest httpServletRequest) {
+        List<TicketCreationRequest> requests = Objects.nonNull(batchRequest) ? batchRequest.getTickets() : null;
+        log.info("MsgXServiceImpl::createSecureTickets - Received batch of {} tickets", Objects.nonNull(requests) ? requests.size() : 0);
+
+        String hashIpAddress = IpAddressService.extractAndHashIp(httpServletRequest);
+        List<BatchTicketItemResult> results = batchTicketCreationService.createTickets(requests, hashIpAddress);
 
-            recordUsage(ApiUsageConstants.DELETE, ApiUsageConstants.DELETE_TICKET, ticket.getTicketType());
+        int created = 0;
+        for (BatchTicketItemResult result : results) {
+            if (BatchTicketItemResult.CREATED.equals(result.getStatus())) {
+                created++;
+                recordUsage(ApiUsageConstants.POST, ApiUsageConstants.NEW_TICKET_BATCH, result.getTicket().getTicketType());
+            }
+        }
+        log.info("MsgXServiceImpl::createSecureTickets - Batch finished: {} created, {} failed", created, results.size() - created);
 
-            return "Ticket ID: " + ticketId + " has been permanently deleted." +
-                    "This action removed all associated encrypted content, metadata, access logs, replies, and passkeys from the system." +
-                    "No trace of this ticket remains in our database or internal services — not even for audit, analytics, or recovery purposes. " +
-                    "This is a complete and irreversible removal, done out of deep respect for your privacy and control." +
-                    "When you choose to delete, it means total freedom — with zero digital residue. Your data. Your choice. Always.";
+        return new BatchTicketCreationResponse(results.size(), created, results.size() - created, results);
+    }
 
-        }).orElseGet(() -> {
+    @Override
+    public String permanentlyDeleteTicket(String ticketId) {
+        log.info("MsgXServiceImpl::permanentlyDeleteTicket - Received request to permanently delete ticketId: {}", ticketId);
+        List<DeletedTicket> deleted = ticketDeletionService.deleteTickets(Collections.singletonList(ticketId));
+        if (deleted.isEmpty()) {
             log.warn("MsgXServiceImpl::permanentlyDeleteTicket - Ticket with ID {} not found.", ticketId);
             return "Ticket not found. It may have already been deleted or never existed.";
-        });
+        }
+        log.info("MsgXServiceImpl::permanentlyDeleteTicket - Ticket with ID {} permanently deleted.", ticketId);
+
+        recordUsage(ApiUsageConstants.DELETE, ApiUsageConstants.DELETE_TICKET, deleted.get(0).ticketType());
+
+        return "Ticket ID: " + ticketId + " has been permanently deleted." +
+                "This action removed all associated encrypted content, metadata, access logs, replies, and passkeys from the system." +
+                "No trace of this ticket remains in our database or internal services — not even for audit, analytics, or recovery purposes. " +
+                "This is a complete and irreversible removal, done out of deep respect for your privacy and control." +
+                "When you choose to delete, it means total freedom — with zero digital residue. Your data. Your choice. Always.";
+    }
+
+    @Override
+    public BulkTicketDeletionResponse permanentlyDeleteTickets(BulkTicketDeletionRequest request) {
+        List<String> ticketIds = Objects.nonNull(request) ? request.getTicketIds() : null;
+        log.info("MsgXServiceImpl::permanentlyDeleteTickets - Received request to delete {} tickets", Objects.nonNull(ticketIds) ? ticketIds.size() : 0);
+
+        List<DeletedTicket> deleted = ticketDeletionService.deleteTickets(ticketIds);
+        deleted.forEach(ticket -> recordUsage(ApiUsageConstants.POST, ApiUsageConstants.BULK_DELETE_TICKETS, ticket.ticketType()));
+
+        Set<String> deletedIds = deleted.stream().map(DeletedTicket::ticketId).collect(Collectors.toCollection(LinkedHashSet::new));
+        List<String> notFound = ticketIds.stream().distinct().filter(ticketId -> !deletedIds.contains(ticketId)).toList();
+        log.info("MsgXServiceImpl::permanentlyDeleteTickets - Deleted {}, not found {}", deletedIds.size(), notFound.size());
+
+        return new BulkTicketDeletionResponse(ticketIds.size(), deletedIds.size(), List.copyOf(deletedIds), notFound);
     }
 
     @Override
@@ -122,11 +210,11 @@ public class MsgXServiceImpl implements MsgXService{
         log.info("MsgXServiceImpl::viewUnifiedTicket - Request for ticketNumber: {}", request.getTicketNumber());
 
         // 1. Fetch ticket
-        Ticket ticket = ticketRepository.findByTicketNumber(request.getTicketNumber())
+        Ticket ticket = pipelineStageMetrics.fetch(TicketPipeline.VIEW, () -> ticketRepository.findByTicketNumber(request.getTicketNumber())
                 .orElseThrow(() -> {
                     log.warn("Ticket not found: {}", request.getTicketNumber());
                     return new GlobalMsgXExceptions("The requested ticket does not exist or has been permanently removed. Please verify the ticket number and try again.");
-                });
+                }));
 
         switch (ticket.getTicketType()) {
             case SINGLE, SECURE_SINGLE, BROADCAST -> {
@@ -148,27 +236,32 @@ public class MsgXServiceImpl implements MsgXService{
 
         // 2. Validate ticket type
         log.info("MsgXServiceImpl::viewTicket - Validating ticket type");
-        ticketViewBuilderService.validateTicketType(ticket);
+        pipelineStageMetrics.run(TicketPipeline.VIEW, PipelineStage.VALIDATE_TYPE, ticket,
+                () -> ticketViewBuilderService.validateTicketType(ticket));
         log.info("MsgXServiceImpl::viewTicket - Ticket type is valid");
 
         // 3. Validate ticket status
         log.info("MsgXServiceImpl::viewTicket - Validating ticket status");
-        ticketViewBuilderService.validateTicketStatus(ticket);
+        pipelineStageMetrics.run(TicketPipeline.VIEW, PipelineStage.VALIDATE_STATUS, ticket,
+                () -> ticketViewBuilderService.validateTicketStatus(ticket));
         log.info("MsgXServiceImpl::viewTicket - Ticket status is valid");
 
         // 4. Validate access window
         log.info("MsgXServiceImpl::viewTicket - Validating access window (openFrom, openUntil, expiresAt)");
-        ticketViewBuilderService.validateAccessWindow(ticket);
+        pipelineStageMetrics.run(TicketPipeline.VIEW, PipelineStage.VALIDATE_ACCESS_WINDOW, ticket,
+                () -> ticketViewBuilderService.validateAccessWindow(ticket));
         log.info("MsgXServiceImpl::viewTicket - Access window is valid");
 
         // 5. Validate view limits
         log.info("MsgXServiceImpl::viewTicket - Validating view count against maxViews");
-        ticketViewBuilderService.validateViewLimits(ticket);
+        pipelineStageMetrics.run(TicketPipeline.VIEW, PipelineStage.VALIDATE_VIEW_LIMITS, ticket,
+                () -> ticketViewBuilderService.validateViewLimits(ticket));
         log.info("MsgXServiceImpl::viewTicket - View count is within allowed limit");
 
         // 6. Validate passkeys
         log.info("MsgXServiceImpl::viewTicket - Validating provided passkeys");
-        ticketViewBuilderService.validatePasskeys(ticket, request.getPasskeys());
+        pipelineStageMetrics.run(TicketPipeline.VIEW, PipelineStage.VERIFY_PASSKEYS, ticket,
+                () -> ticketViewBuilderService.validatePasskeys(ticket, request.getPasskeys()));
         log.info("MsgXServiceImpl::viewTicket - Passkeys are valid");
 
         // 7. Process view
@@ -187,27 +280,32 @@ public class MsgXServiceImpl implements MsgXService{
 
         // 2. Validate ticket type
         log.info("MsgXServiceImpl::viewConversation - Validating ticket type");
-        ticketConversationBuilderService.validateConversationTicket(ticket);
+        pipelineStageMetrics.run(TicketPipeline.VIEW, PipelineStage.VALIDATE_TYPE, ticket,
+                () -> ticketConversationBuilderService.validateConversationTicket(ticket));
         log.info("MsgXServiceImpl::viewConversation - Ticket type is valid for conversation");
 
         // 3. Validate ticket status
         log.info("MsgXServiceImpl::viewConversation - Validating ticket status");
-        ticketViewBuilderService.validateTicketStatus(ticket);
+        pipelineStageMetrics.run(TicketPipeline.VIEW, PipelineStage.VALIDATE_STATUS, ticket,
+                () -> ticketViewBuilderService.validateTicketStatus(ticket));
         log.info("MsgXServiceImpl::viewConversation - Ticket status is valid");
 
         // 4. Validate access window
         log.info("MsgXServiceImpl::viewConversation - Validating access window");
-        ticketViewBuilderService.validateAccessWindow(ticket);
+        pipelineStageMetrics.run(TicketPipeline.VIEW, PipelineStage.VALIDATE_ACCESS_WINDOW, ticket,
+                () -> ticketViewBuilderService.validateAccessWindow(ticket));
         log.info("MsgXServiceImpl::viewConversation - Access window is valid");
 
         // 5. Validate view limits
         log.info("MsgXServiceImpl::viewConversation - Validating view limits");
-        ticketViewBuilderService.validateViewLimits(ticket);
+        pipelineStageMetrics.run(TicketPipeline.VIEW, PipelineStage.VALIDATE_VIEW_LIMITS, ticket,
+                () -> ticketViewBuilderService.validateViewLimits(ticket));
         log.info("MsgXServiceImpl::viewConversation - View count within allowed limits");
 
         // 6. Validate passkeys
         log.info("MsgXServiceImpl::viewConversation - Validating passkeys");
-        ticketViewBuilderService.validatePasskeys(ticket, request.getPasskeys());
+        pipelineStageMetrics.run(TicketPipeline.VIEW, PipelineStage.VERIFY_PASSKEYS, ticket,
+                () -> ticketViewBuilderService.validatePasskeys(ticket, request.getPasskeys()));
         log.info("MsgXServiceImpl::viewConversation - Passkeys are valid");
 
         // 7. Extract and sort passkey values
@@ -219,32 +317,33 @@ public class MsgXServiceImpl implements MsgXService{
 
         // 8. Update view count and log access
         log.info("MsgXServiceImpl::viewConversation - Updating view count and logging read event");
-        ticket.setCountViews(ticket.getCountViews() + 1);
-        ticketViewBuilderService.createReadLog(ticket, clientIp);
+        pipelineStageMetrics.run(TicketPipeline.VIEW, PipelineStage.ADMIT_VIEW, ticket, () -> viewAdmissionService.admitView(ticket));
+        pipelineStageMetrics.run(TicketPipeline.VIEW, PipelineStage.LOG_READ, ticket, () -> ticketViewBuilderService.createReadLog(ticket, clientIp));
+        log.info("MsgXServiceImpl::viewConversation - View {} admitted and logged", ticket.getCountViews());
 
-        if (Objects.nonNull(ticket.getMaxViews())  && ticket.getCountViews() >= ticket.getMaxViews()) {
-            log.info("MsgXServiceImpl::viewConversation - View limit reached for ticket. Updating status.");
-            ticket.setTicketStatus(TicketStatus.VIEW_LIMIT_REACHED);
-        }
-        ticketRepository.save(ticket);
-        log.info("MsgXServiceImpl::viewConversation - View count updated and ticket saved");
+        // 9. Derive the conversation key once and decrypt ticket content
+        log.info("MsgXServiceImpl::viewConversation - Deriving conversation key");
+        DerivedKey conversationKey = pipelineStageMetrics.time(TicketPipeline.VIEW, PipelineStage.DERIVE_KEY, ticket,
+                () -> derivedKeyCache.getOrDerive(ticket, passkeyValues,
+                        () -> cryptoWorkScheduler.call(CryptoOperation.KEY_DERIVATION,
+                                () -> cryptoService.deriveKey(passkeyValues, ticket.getSalt(), ticket.getEncryptionAlgo()))));
 
-        // 9. Decrypt ticket content
         log.info("MsgXServiceImpl::viewConversation - Decrypting main message content");
-        String decryptedContent = cryptoService.decryptContent(
-                ticket.getEncryptedMessage(),
-                passkeyValues,
-                ticket.getSalt(),
-                ticket.getIv(),
-                ticket.getEncryptionAlgo()
-        );
+        String decryptedContent = pipelineStageMetrics.time(TicketPipeline.VIEW, PipelineStage.DECRYPT, ticket,
+                () -> cryptoService.decryptContent(
+                        ticket.getEncryptedMessage(),
+                        ticket.getIv(),
+                        conversationKey
+                ));
         log.info("MsgXServiceImpl::viewConversation - Message content decrypted successfully");
 
         // 10. Build a conversation tree
         log.info("MsgXServiceImpl::viewConversation - Building conversation tree from replies");
-        List<Reply> topLevelReplies = replyRepository.findByTicketAndParentReplyIsNullOrderByCreatedAtAsc(ticket);
-        List<ConversationNode> conversationTree = ticketConversationBuilderService.buildConversationTree(topLevelReplies, passkeyValues, ticket);
-        log.info("MsgXServiceImpl::viewConversation - Conversation tree built with {} top-level replies", conversationTree.size());
+        List<ReplyRow> replyRows = pipelineStageMetrics.time(TicketPipeline.VIEW, PipelineStage.LOAD_REPLIES, ticket,
+                () -> replyRepository.findConversationRows(ticket.getTicketId()));
+        List<ConversationNode> conversationTree = pipelineStageMetrics.time(TicketPipeline.VIEW, PipelineStage.BUILD_TREE, ticket,
+                () -> ticketConversationBuilderService.buildConversationTree(replyRows, conversationKey));
+        log.info("MsgXServiceImpl::viewConversation - Conversation tree built from {} replies with {} top-level replies", replyRows.size(), conversationTree.size());
 
         // 11. Build and return response
         log.info("MsgXServiceImpl::viewConversation - Building and returning response");
@@ -254,34 +353,157 @@ public class MsgXServiceImpl implements MsgXService{
         return ticketConversationBuilderService.buildResponse(ticket, decryptedContent, conversationTree);
     }
 
+    @Override
+    public ConversationPageResponse viewConversationPage(ConversationPageRequest request, String clientIp) {
+        log.info("MsgXServiceImpl::viewConversationPage - Received page request for ticket: {}", request.getTicketNumber());
+
+        // 1. Fetch ticket
+        Ticket ticket = ticketRepository.findByTicketNumber(request.getTicketNumber())
+                .orElseThrow(() -> {
+                    log.warn("MsgXServiceImpl::viewConversationPage - Ticket not found: {}", request.getTicketNumber());
+                    return new GlobalMsgXExceptions("The requested ticket does not exist or has been permanently removed. Please verify the ticket number and try again.");
+                });
+
+        // Crypto events of this request, including work handed to the crypto executor, carry the ticket type
+        try (CryptoEvent.TicketTypeScope ticketTypeScope = CryptoEvent.forTicketType(ticket.getTicketType())) {
+            // 2. Validate access and derive the conversation key. Only opening the conversation counts as a view;
+            //    a continuation page must carry a cursor this server signed for this ticket
+            ConversationCursor cursor = Objects.isNull(request.getCursor()) || request.getCursor().isBlank()
+                    ? null
+                    : conversationCursorCodec.decode(ticket.getTicketId(), request.getCursor());
+            boolean firstPage = Objects.isNull(cursor);
+            DerivedKey conversationKey = unlockConversation(ticket, request.getPasskeys(), clientIp, firstPage);
+
+            // 3. Decrypt only the requested page
+            ConversationPageReader.Page page = conversationPageReader.readPage(
+                    ticket.getTicketId(), cursor, request.getLimit(), conversationKey);
+            log.info("MsgXServiceImpl::viewConversationPage - Returning {} replies, hasMore={}", page.replies().size(), page.hasMore());
+
+            ConversationPageResponse response = new ConversationPageResponse();
+            response.setTicketNumber(ticket.getTicketNumber());
+            if (firstPage) {
+                response.setDecryptedContent(cryptoService.decryptContent(ticket.getEncryptedMessage(), ticket.getIv(), conversationKey));
+            }
+            response.setMaxViews(ticket.getMaxViews());
+            response.setRemainingViews(ticket.getMaxViews() != null ? ticket.getMaxViews() - ticket.getCountViews() : null);
+            response.setTicketStatus(ticket.getTicketStatus().name());
+            response.setReadAt(Instant.now());
+            response.setReplies(page.replies());
+            response.setNextCursor(page.nextCursor());
+            response.setHasMore(page.hasMore());
+
+            recordUsage(ApiUsageConstants.POST, ApiUsageConstants.CONVERSATION_PAGE, ticket.getTicketType());
+
+            return response;
+        }
+    }
+
+    @Override
+    public StreamingResponseBody streamConversation(UnifiedViewRequest request, String clientIp) {
+        log.info("MsgXServiceImpl::streamConversation - Received stream request for ticket: {}", request.getTicketNumber());
+
+        // 1. Fetch ticket
+        Ticket ticket = ticketRepository.findByTicketNumber(request.getTicketNumber())
+                .orElseThrow(() -> {
+                    log.warn("MsgXServiceImpl::streamConversation - Ticket not found: {}", request.getTicketNumber());
+                    return new GlobalMsgXExceptions("The requested ticket does not exist or has been permanently removed. Please verify the ticket number and try again.");
+                });
+
+        try (CryptoEvent.TicketTypeScope ticketTypeScope = CryptoEvent.forTicketType(ticket.getTicketType())) {
+            // 2. Validate access, admit the view and derive the conversation key before any byte is written,
+            //    so failures still produce a regular error response
+            DerivedKey conversationKey = unlockConversation(ticket, request.getPasskeys(), clientIp, true);
+            String decryptedContent = cryptoService.decryptContent(ticket.getEncryptedMessage(), ticket.getIv(), conversationKey);
+
+            recordUsage(ApiUsageConstants.POST, ApiUsageConstants.CONVERSATION_STREAM, ticket.getTicketType());
+
+            // 3. Replies are read, decrypted and written one at a time once the response starts
+            ViewConversationResponse header = ticketConversationBuilderService.buildResponse(ticket, decryptedContent, null);
+            return conversationStreamWriter.stream(header, ticket.getTicketId(), conversationKey);
+        }
+    }
+
+    @Override
+    public SseEmitter subscribeToConversation(UnifiedViewRequest request, String clientIp) {
+        log.info("MsgXServiceImpl::subscribeToConversation - Received subscription request for ticket: {}", request.getTicketNumber());
+
+        Ticket ticket = ticketRepository.findByTicketNumber(request.getTicketNumber())
+                .orElseThrow(() -> {
+                    log.warn("MsgXServiceImpl::subscribeToConversation - Ticket not found: {}", request.getTicketNumber());
+                    return new GlobalMsgXExceptions("The requested ticket does not exist or has been permanently removed. Please verify the ticket number and try again.");
+                });
+
+        try (CryptoEvent.TicketTypeScope ticketTypeScope = CryptoEvent.forTicketType(ticket.getTicketType())) {
+            // Passkeys are verified once here instead of on every poll; a subscription does not consume a view
+            DerivedKey conversationKey = unlockConversation(ticket, request.getPasskeys(), clientIp, false);
+
+            recordUsage(ApiUsageConstants.POST, ApiUsageConstants.CONVERSATION_SUBSCRIBE, ticket.getTicketType());
+
+            return replyEventBus.subscribe(ticket.getTicketId(), conversationKey);
+        }
+    }
+
+    /**
+     * Runs the conversation access checks and returns the derived conversation key.
+     * When {@code consumesView} is set the request is treated as opening the conversation:
+     * view limits apply, one view is admitted and a read log is written.
+     */
+    private DerivedKey unlockConversation(Ticket ticket, List<PasskeyEntry> passkeys, String clientIp, boolean consumesView) {
+        ticketConversationBuilderService.validateConversationTicket(ticket);
+        ticketViewBuilderService.validateTicketStatus(ticket);
+        ticketViewBuilderService.validateAccessWindow(ticket);
+        if (consumesView) {
+            ticketViewBuilderService.validateViewLimits(ticket);
+        }
+        ticketViewBuilderService.validatePasskeys(ticket, passkeys);
+
+        List<String> passkeyValues = passkeys.stream()
+                .sorted(Comparator.comparingInt(PasskeyEntry::getOrder))
+                .map(p -> p.getValue().trim())
+                .toList();
+
+        if (consumesView) {
+            viewAdmissionService.admitView(ticket);
+            ticketViewBuilderService.createReadLog(ticket, clientIp);
+        }
+
+        return derivedKeyCache.getOrDerive(ticket, passkeyValues,
+                () -> cryptoWorkScheduler.call(CryptoOperation.KEY_DERIVATION,
+                        () -> cryptoService.deriveKey(passkeyValues, ticket.getSalt(), ticket.getEncryptionAlgo())));
+    }
+
     @Override
     public PostReplyResponse postReply(PostReplyRequest request, String clientIp) {
         log.info("MsgXServiceImpl::postReply - Received request to post reply to ticket: {}", request.getTicketNumber());
 
         // 1. Fetch the ticket
         log.info("MsgXServiceImpl::postReply - Fetching ticket from repository");
-        Ticket ticket = ticketRepository.findByTicketNumber(request.getTicketNumber())
+        Ticket ticket = pipelineStageMetrics.fetch(TicketPipeline.REPLY, () -> ticketRepository.findByTicketNumber(request.getTicketNumber())
                 .orElseThrow(() -> {
                     log.warn("MsgXServiceImpl::postReply - Ticket not found: {}", request.getTicketNumber());
                             return new GlobalMsgXExceptions("The requested ticket does not exist or has been permanently removed. Please verify the ticket number and try again.");
-                });
+                }));
         log.info("MsgXServiceImpl::postReply - Ticket found with ID: {}", ticket.getTicketId());
 
         // 2. Validate ticket type
         log.info("MsgXServiceImpl::postReply - Validating ticket type");
-        ticketConversationBuilderService.validateConversationTicket(ticket);
+        pipelineStageMetrics.run(TicketPipeline.REPLY, PipelineStage.VALIDATE_TYPE, ticket,
+                () -> ticketConversationBuilderService.validateConversationTicket(ticket));
 
         // 3. Validate ticket status
         log.info("MsgXServiceImpl::postReply - Validating ticket status");
-        ticketViewBuilderService.validateTicketStatus(ticket);
+        pipelineStageMetrics.run(TicketPipeline.REPLY, PipelineStage.VALIDATE_STATUS, ticket,
+                () -> ticketViewBuilderService.validateTicketStatus(ticket));
 
         // 4. Validate access window
         log.info("MsgXServiceImpl::postReply - Validating access window");
-        ticketViewBuilderService.validateAccessWindow(ticket);
+        pipelineStageMetrics.run(TicketPipeline.REPLY, PipelineStage.VALIDATE_ACCESS_WINDOW, ticket,
+                () -> ticketViewBuilderService.validateAccessWindow(ticket));
 
         // 5. Validate passkeys
         log.info("MsgXServiceImpl::postReply - Validating provided passkeys");
-        ticketViewBuilderService.validatePasskeys(ticket, request.getPasskeys());
+        pipelineStageMetrics.run(TicketPipeline.REPLY, PipelineStage.VERIFY_PASSKEYS, ticket,
+                () -> ticketViewBuilderService.validatePasskeys(ticket, request.getPasskeys()));
         log.info("MsgXServiceImpl::postReply - Passkeys are valid");
 
         // 6. Process and sort passkeys
@@ -295,11 +517,12 @@ public class MsgXServiceImpl implements MsgXService{
         Reply parentReply = null;
         if (request.getParentReplyId() != null) {
             log.info("MsgXServiceImpl::postReply - Fetching parent reply with ID: {}", request.getParentReplyId());
-            parentReply = replyRepository.findById(request.getParentReplyId())
-                    .orElseThrow(() ->{
-                        log.warn("MsgXServiceImpl::postReply - Parent reply not found: {}", request.getParentReplyId());
-                        return new GlobalMsgXExceptions("Parent reply not found");
-                    });
+            parentReply = pipelineStageMetrics.time(TicketPipeline.REPLY, PipelineStage.LOAD_PARENT_REPLY, ticket,
+                    () -> Optional.of(request.getParentReplyId()).filter(UuidStringType::isUuid).flatMap(replyRepository::findById)
+                            .orElseThrow(() ->{
+                                log.warn("MsgXServiceImpl::postReply - Parent reply not found: {}", request.getParentReplyId());
+                                return new GlobalMsgXExceptions("Parent reply not found");
+                            }));
             if (!parentReply.getTicket().getTicketId().equals(ticket.getTicketId())) {
                 log.error("MsgXServiceImpl::postReply - Parent reply belongs to a different ticket");
                 throw new GlobalMsgXExceptions("Parent reply belongs to different ticket");
@@ -309,24 +532,36 @@ public class MsgXServiceImpl implements MsgXService{
 
         // 8. Encrypt reply content
         log.info("MsgXServiceImpl::postReply - Encrypting reply content");
-        String encryptedReply = cryptoService.encryptContent(
-                request.getContent(),
-                passkeyValues,
-                ticket.getSalt(),
-                ticket.getEncryptionAlgo()
-        );
-        String iv = cryptoService.getLastGeneratedIVAsBase64();
+        SealedEnvelope sealedReply = pipelineStageMetrics.time(TicketPipeline.REPLY, PipelineStage.ENCRYPT, ticket,
+                () -> cryptoWorkScheduler.call(CryptoOperation.ENCRYPT, () -> cryptoService.encryptContent(
+                        request.getContent(),
+                        passkeyValues,
+                        ticket.getSalt(),
+                        ticket.getEncryptionAlgo()
+                )));
         log.info("MsgXServiceImpl::postReply - Reply content encrypted");
 
         log.info("MsgXServiceImpl::postReply - Creating reply entity");
-        Reply reply = ticketConversationBuilderService.buildReplyEntity(encryptedReply, iv, ticket, parentReply, clientIp);
+        Reply reply = ticketConversationBuilderService.buildReplyEntity(sealedReply, ticket, parentReply, clientIp);
 
         // 9. Save reply
         log.info("MsgXServiceImpl::postReply - Saving reply to repository");
-        Reply savedReply = replyRepository.save(reply);
+        Reply savedReply = pipelineStageMetrics.time(TicketPipeline.REPLY, PipelineStage.SAVE_REPLY, ticket,
+                () -> replyRepository.save(reply));
         log.info("MsgXServiceImpl::postReply - Reply saved with ID: {}", savedReply.getReplyId());
 
-        // 10. Return response
+        // 10. Push to live subscribers of this ticket
+        ReplyRow publishedRow = new ReplyRow(
+                savedReply.getReplyId(),
+                savedReply.getReplySeq(),
+                Objects.nonNull(parentReply) ? parentReply.getReplyId() : null,
+                savedReply.getCreatedAt(),
+                savedReply.getEncryptedContent(),
+                savedReply.getIv());
+        pipelineStageMetrics.run(TicketPipeline.REPLY, PipelineStage.PUBLISH, ticket,
+                () -> replyEventBus.publish(ticket.getTicketId(), publishedRow));
+
+        // 11. Return response
         log.info("MsgXServiceImpl::postReply - Returning success response for posted reply");
 
         recordUsage(ApiUsageConstants.POST, ApiUsageConstants.POST_REPLY, ticket.getTicketType());
@@ -337,35 +572,21 @@ public class MsgXServiceImpl implements MsgXService{
     @Override
     public List<ApiUsageMetricsResponse> getApiUsageMetrics() {
         log.info("MsgXServiceImpl::getApiUsageMetrics - Fetching sorted API usage metrics");
-        return apiUsageMetricsRepository.findAllOrderByHitCountDesc()
+        return apiUsageCounterRegistry.mergedCounts()
+                .entrySet()
                 .stream()
-                .map(metric -> ApiUsageMetricsResponse.builder()
-                        .httpMethod(metric.getHttpMethod())
-                        .apiEndpoint(metric.getApiEndpoint())
-                        .ticketType(metric.getTicketType())
-                        .hitCount(metric.getHitCount())
+                .sorted(Map.Entry.<ApiUsageCounterRegistry.UsageKey, Long>comparingByValue().reversed())
+                .map(entry -> ApiUsageMetricsResponse.builder()
+                        .httpMethod(entry.getKey().httpMethod())
+                        .apiEndpoint(entry.getKey().apiEndpoint())
+                        .ticketType(entry.getKey().ticketType())
+                        .hitCount(entry.getValue())
                         .build())
                 .toList();
     }
 
     public void recordUsage(String httpMethod, String apiEndpoint, TicketType ticketType) {
-        ApiUsageMetrics metrics = apiUsageMetricsRepository
-                .findAll()
-                .stream()
-                .filter(m -> m.getHttpMethod().equalsIgnoreCase(httpMethod)
-                        && m.getApiEndpoint().equalsIgnoreCase(apiEndpoint)
-                        && m.getTicketType() == ticketType)
-                .findFirst()
-                .orElseGet(() -> {
-                    ApiUsageMetrics newMetrics = new ApiUsageMetrics();
-                    newMetrics.setHttpMethod(httpMethod.toUpperCase());
-                    newMetrics.setApiEndpoint(apiEndpoint);
-                    newMetrics.setTicketType(ticketType);
-                    return newMetrics;
-                });
-
-        metrics.setHitCount(metrics.getHitCount() + 1);
-        apiUsageMetricsRepository.save(metrics);
-        log.info("ApiUsageMetricsService::recordUsage - Recorded hit for {} {} [{}], total hits = {}", httpMethod, apiEndpoint, ticketType, metrics.getHitCount());
+        apiUsageCounterRegistry.record(httpMethod, apiEndpoint, ticketType);
+        log.debug("ApiUsageMetricsService::recordUsage - Recorded hit for {} {} [{}]", httpMethod, apiEndpoint, ticketType);
     }
 }
@@ -0,0 +1,71 @@
+package com.secure.MsgX.features.utility.accessUtil;
+
+import com.secure.MsgX.core.enums.CryptoOperation;
+import com.secure.MsgX.features.utility.commonUtil.CryptoService;
+import com.secure.MsgX.features.utility.commonUtil.CryptoWorkScheduler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+/**
+ * Verifies a ticket's passkeys against their Argon2 hashes in parallel on the crypto scheduler.
+ * The first mismatch cancels the checks that are still queued.
+ * Checks are submitted in random order, so the time to reject does not depend on which key was wrong.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasskeyVerificationEngine {
+
+    private final CryptoService cryptoService;
+    private final CryptoWorkScheduler cryptoWorkScheduler;
+
+    /**
+     * @param providedPasskeys raw passkeys, already sorted by order
+     * @param storedHashes     Argon2 hashes, sorted by key order; must be the same size as {@code providedPasskeys}
+     * @return true only when every provided passkey matches the hash at the same position
+     */
+    public boolean verifyAll(List<String> providedPasskeys, List<String> storedHashes) {
+        int keyCount = storedHashes.size();
+        if (keyCount == 1) {
+            return cryptoWorkScheduler.call(CryptoOperation.PASSKEY_VERIFY,
+                    () -> cryptoService.verifyPasskey(providedPasskeys.get(0), storedHashes.get(0)));
+        }
+
+        List<Integer> submissionOrder = new ArrayList<>(IntStream.range(0, keyCount).boxed().toList());
+        Collections.shuffle(submissionOrder);
+
+        List<CompletableFuture<Boolean>> checks = new ArrayList<>(keyCount);
+        CompletableFuture<Boolean> firstMismatch = new CompletableFuture<>();
+        try {
+            for (int index : submissionOrder) {
+                CompletableFuture<Boolean> check = cryptoWorkScheduler.submit(CryptoOperation.PASSKEY_VERIFY,
+                        () -> cryptoService.verifyPasskey(providedPasskeys.get(index), storedHashes.get(index)));
+                check.thenAccept(matches -> {
+                    if (!matches) {
+                        firstMismatch.complete(Boolean.FALSE);
+                    }
+                });
+                checks.add(check);
+            }
+
+            CompletableFuture<Boolean> allMatch = CompletableFuture.allOf(checks.toArray(CompletableFuture[]::new))
+                    .thenApply(ignored -> Boolean.TRUE);
+            boolean verified = cryptoWorkScheduler.await(CryptoOperation.PASSKEY_VERIFY,
+                    CompletableFuture.anyOf(firstMismatch, allMatch).thenApply(Boolean.class::cast));
+            if (!verified) {
+                log.info("PasskeyVerificationEngine::verifyAll - Mismatch detected, cancelling remaining checks");
+            }
+            return verified;
+        }
+        finally {
+            checks.forEach(check -> check.cancel(true));
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.secure.MsgX.features.utility.accessUtil;
+
+import com.secure.MsgX.features.repository.ReadLogBatchRepository;
+import com.secure.MsgX.features.repository.ReadLogBatchRepository.ReadLogRow;
+import com.secure.MsgX.features.utility.commonUtil.IpAddressService;
+import com.secure.MsgX.features.utility.ticketCreateUtil.UniqueIdGenerators;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Takes read-log writes off the view path. A view only enqueues (ticket, salt, client IP, time); IP mixing and the
+ * insert happen on the flush, which writes JDBC batches of up to {@code batch-size} rows.
+ * When the queue is full the overflow policy decides: DROP loses the entry, BLOCK waits up to {@code offer-timeout}
+ * for space and then drops, CALLER_RUNS writes the entry synchronously on the request thread.
+ * Entries still queued at shutdown are flushed before the connection pool closes.
+ */
+@Slf4j
+@Component
+public class ReadLogWriter {
+
+    public enum OverflowPolicy { DROP, BLOCK, CALLER_RUNS }
+
+    private final ReadLogBatchRepository readLogBatchRepository;
+    private final BlockingQueue<PendingReadLog> queue;
+    private final int batchSize;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration offerTimeout;
+    // A lock instead of synchronized: the flush holds it across JDBC calls, and a monitor would pin a virtual thread
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final Counter writtenLogs;
+    private final Counter droppedLogs;
+
+    public ReadLogWriter(ReadLogBatchRepository readLogBatchRepository,
+                         @Value("${msgx.read-log.queue-capacity:10000}") int queueCapacity,
+                         @Value("${msgx.read-log.batch-size:500}") int batchSize,
+                         @Value("${msgx.read-log.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+                         @Value("${msgx.read-log.offer-timeout:PT0.05S}") Duration offerTimeout,
+                         MeterRegistry meterRegistry) {
+        this.readLogBatchRepository = readLogBatchRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+        this.offerTimeout = offerTimeout;
+
+        Gauge.builder("msgx.read.log.queue", queue, BlockingQueue::size)
+                .description("Read logs waiting to be written")
+                .register(meterRegistry);
+        this.writtenLogs = Counter.builder("msgx.read.log.writes")
+                .tag("result", "written")
+                .description("Read logs inserted by the background writer")
+                .register(meterRegistry);
+        this.droppedLogs = Counter.builder("msgx.read.log.writes")
+                .tag("result", "dropped")
+                .description("Read logs lost to a full queue or a failed insert")
+                .register(meterRegistry);
+
+        log.info("ReadLogWriter::init - queueCapacity={}, batchSize={}, overflowPolicy={}", queueCapacity, batchSize, overflowPolicy);
+    }
+
+    /**
+     * Records a view of the ticket. Never throws; a read log that cannot be queued is counted and logged.
+     */
+    public void enqueue(String ticketId, String salt, String clientIp) {
+        PendingReadLog pending = new PendingReadLog(ticketId, salt, clientIp, Instant.now());
+        if (queue.offer(pending)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    if (queue.offer(pending, offerTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                        return;
+                    }
+                }
+                catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                drop(1, "queue full");
+            }
+            case CALLER_RUNS -> write(List.of(pending));
+            default -> drop(1, "queue full");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${msgx.read-log.flush-interval:PT1S}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("ReadLogWriter::flushOnShutdown - Flushing {} pending read logs", queue.size());
+        flush();
+    }
+
+    void flush() {
+        flushLock.lock();
+        try {
+            List<PendingReadLog> batch = new ArrayList<>(batchSize);
+            while (queue.drainTo(batch, batchSize) > 0) {
+                write(batch);
+                batch.clear();
+            }
+        }
+        finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void write(List<PendingReadLog> batch) {
+        List<ReadLogRow> rows = batch.stream().map(ReadLogWriter::toRow).toList();
+        try {
+            readLogBatchRepository.insertAll(rows);
+            writtenLogs.increment(rows.size());
+        }
+        catch (DataAccessException ex) {
+            // Typically a ticket deleted after it was viewed; retry one by one so only those rows are lost
+            log.warn("ReadLogWriter::write - Batch of {} read logs failed, retrying individually: {}", rows.size(), ex.getMessage());
+            for (ReadLogRow row : rows) {
+                try {
+                    readLogBatchRepository.insertAll(List.of(row));
+                    writtenLogs.increment();
+                }
+                catch (DataAccessException rowEx) {
+                    drop(1, rowEx.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private void drop(int count, String reason) {
+        droppedLogs.increment(count);
+        log.warn("ReadLogWriter::drop - Dropped {} read log(s): {}", count, reason);
+    }
+
+    private static ReadLogRow toRow(PendingReadLog pending) {
+        String hashedIp = IpAddressService.hashIpAddress(pending.clientIp());
+        String entropy = UniqueIdGenerators.UlidGenerator.generateUlid();
+        String rawValue = pending.salt() + ":" + entropy + ":" + hashedIp;
+        return new ReadLogRow(pending.ticketId(), pending.readAt(), IpAddressService.shuffleAndShiftHash(rawValue, entropy));
+    }
+
+    private record PendingReadLog(String ticketId, String salt, String clientIp, Instant readAt) {
+    }
+}
@@ -1,18 +1,23 @@
 package com.secure.MsgX.features.utility.accessUtil;
 
 import com.secure.MsgX.core.entity.Passkey;
-import com.secure.MsgX.core.entity.ReadLog;
 import com.secure.MsgX.core.entity.Ticket;
+import com.secure.MsgX.core.enums.CryptoOperation;
+import com.secure.MsgX.core.enums.PipelineStage;
+import com.secure.MsgX.core.enums.TicketPipeline;
 import com.secure.MsgX.core.enums.TicketStatus;
 import com.secure.MsgX.core.enums.TicketType;
+import com.secure.MsgX.core.exceptions.CryptoCapacityExceededException;
 import com.secure.MsgX.core.exceptions.GlobalMsgXExceptions;
 import com.secure.MsgX.features.dto.commonDto.PasskeyEntry;
 import com.secure.MsgX.features.dto.accessDto.ViewTicketResponse;
-import com.secure.MsgX.features.repository.ReadLogRepository;
 import com.secure.MsgX.features.repository.TicketRepository;
 import com.secure.MsgX.features.utility.commonUtil.CryptoService;
-import com.secure.MsgX.features.utility.commonUtil.IpAddressService;
-import com.secure.MsgX.features.utility.ticketCreateUtil.UniqueIdGenerators;
+import com.secure.MsgX.features.utility.commonUtil.CryptoWorkScheduler;
+import com.secure.MsgX.features.utility.commonUtil.DerivedKey;
+import com.secure.MsgX.features.utility.commonUtil.DerivedKeyCache;
+import com.secure.MsgX.features.utility.commonUtil.PipelineStageMetrics;
+import com.secure.MsgX.features.utility.conversationUtil.ReplyEventBus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -28,8 +33,14 @@ import java.util.Objects;
 public class TicketViewBuilderService {
 
     private final CryptoService cryptoService;
+    private final DerivedKeyCache derivedKeyCache;
+    private final PasskeyVerificationEngine passkeyVerificationEngine;
+    private final CryptoWorkScheduler cryptoWorkScheduler;
+    private final PipelineStageMetrics pipelineStageMetrics;
+    private final ViewAdmissionService viewAdmissionService;
+    private final ReplyEventBus replyEventBus;
     private final TicketRepository ticketRepository;
-    private final ReadLogRepository readLogRepository;
+    private final ReadLogWriter readLogWriter;
 
     public void validateTicketType(Ticket ticket) {
         TicketType ticketType = ticket.getTicketType();
@@ -60,6 +71,9 @@ public class TicketViewBuilderService {
     }
 
     public void validateViewLimits(Ticket ticket) {
+        if (viewAdmissionService.useReservations(ticket)) {
+            return;
+        }
         if (Objects.nonNull(ticket.getMaxViews()) && ticket.getCountViews() >= ticket.getMaxViews()) {
             updateTicketStatus(ticket, TicketStatus.VIEW_LIMIT_REACHED);
             throw new GlobalMsgXExceptions("You have reached the maximum number of allowed views for this ticket. " +
@@ -81,89 +95,75 @@ public class TicketViewBuilderService {
             throw new GlobalMsgXExceptions("Incorrect number of passkeys provided. Please ensure you submit the exact number of passkeys required to access this ticket.");
         }
 
-        for (int i = 0; i < storedPasskeys.size(); i++) {
-            Passkey stored = storedPasskeys.get(i);
-            PasskeyEntry provided = sortedEntries.get(i);
-
-            if (!cryptoService.verifyPasskey(provided.getValue(), stored.getPasskeyHash())) {
-                throw new GlobalMsgXExceptions("Passkey order or passkey value is incorrect. " +
-                        "Make sure you enter all passkeys in the correct order and with accurate values before retrying.");
-            }
+        boolean allMatch = passkeyVerificationEngine.verifyAll(
+                sortedEntries.stream().map(PasskeyEntry::getValue).toList(),
+                storedPasskeys.stream().map(Passkey::getPasskeyHash).toList()
+        );
+        if (!allMatch) {
+            throw new GlobalMsgXExceptions("Passkey order or passkey value is incorrect. " +
+                    "Make sure you enter all passkeys in the correct order and with accurate values before retrying.");
         }
     }
 
     public ViewTicketResponse processTicketView(Ticket ticket, List<PasskeyEntry> passkeys, String clientIp) {
+        String decryptedContent;
         try {
             List<String> passkeyValues = passkeys.stream()
                     .sorted(Comparator.comparingInt(PasskeyEntry::getOrder))
                     .map(p -> p.getValue().trim())
                     .toList();
 
-            String decryptedContent = cryptoService.decryptContent(
-                    ticket.getEncryptedMessage(),
-                    passkeyValues,
-                    ticket.getSalt(),
-                    ticket.getIv(),
-                    ticket.getEncryptionAlgo()
-            );
-
-            // 2. Update view count
-            ticket.setCountViews(ticket.getCountViews() + 1);
-
-            // 3. Check if view limit reached
-            if (ticket.getMaxViews() != null && ticket.getCountViews() >= ticket.getMaxViews()) {
-                updateTicketStatus(ticket, TicketStatus.VIEW_LIMIT_REACHED);
-            }
-
-            // 4. Create read log
-            createReadLog(ticket, clientIp);
-
-            // 5. For SECURE_SINGLE tickets, close immediately after viewing
-            if (ticket.getTicketType() == TicketType.SECURE_SINGLE) {
-                updateTicketStatus(ticket, TicketStatus.CLOSED);
-            }
-
-            // 6. Build response
-            return buildViewResponse(ticket, decryptedContent);
+            DerivedKey derivedKey = pipelineStageMetrics.time(TicketPipeline.VIEW, PipelineStage.DERIVE_KEY, ticket,
+                    () -> derivedKeyCache.getOrDerive(ticket, passkeyValues,
+                            () -> cryptoWorkScheduler.call(CryptoOperation.KEY_DERIVATION,
+                                    () -> cryptoService.deriveKey(passkeyValues, ticket.getSalt(), ticket.getEncryptionAlgo()))));
+
+            decryptedContent = pipelineStageMetrics.time(TicketPipeline.VIEW, PipelineStage.DECRYPT, ticket,
+                    () -> cryptoService.decryptContent(
+                            ticket.getEncryptedMessage(),
+                            ticket.getIv(),
+                            derivedKey
+                    ));
+        }
+        catch (CryptoCapacityExceededException ex) {
+            throw ex;
         }
         catch (Exception ex) {
             throw new GlobalMsgXExceptions("Unable to decrypt the ticket content. This may be due to incorrect passkeys, " +
                     "corrupted data, or an internal processing error. Please double-check your input " +
                     "and try again. If the issue persists, contact the ticket creator for further assistance.");
         }
+
+        // 2. Consume one view atomically; refuses the view once maxViews is used up and marks the limit reached
+        pipelineStageMetrics.run(TicketPipeline.VIEW, PipelineStage.ADMIT_VIEW, ticket, () -> viewAdmissionService.admitView(ticket));
+
+        // 3. Create read log
+        pipelineStageMetrics.run(TicketPipeline.VIEW, PipelineStage.LOG_READ, ticket, () -> createReadLog(ticket, clientIp));
+
+        // 4. For SECURE_SINGLE tickets, close immediately after viewing
+        if (ticket.getTicketType() == TicketType.SECURE_SINGLE) {
+            updateTicketStatus(ticket, TicketStatus.CLOSED);
+        }
+
+        // 5. Build response
+        String content = decryptedContent;
+        return pipelineStageMetrics.time(TicketPipeline.VIEW, PipelineStage.BUILD_RESPONSE, ticket,
+                () -> buildViewResponse(ticket, content));
     }
 
     private void updateTicketStatus(Ticket ticket, TicketStatus status) {
         ticket.setTicketStatus(status);
         ticketRepository.save(ticket);
+        derivedKeyCache.evictTicket(ticket.getTicketId());
+        replyEventBus.closeTicket(ticket.getTicketId());
         log.info("MsgXServiceImpl::updateTicketStatus - Updated ticket {} status to {}", ticket.getTicketId(), status);
     }
 
     public void createReadLog(Ticket ticket, String clientIp) {
-        try {
-            ReadLog readLog = new ReadLog();
-            readLog.setTicket(ticket);
-
-            String hashedIp = IpAddressService.hashIpAddress(clientIp);
-            String entropy = UniqueIdGenerators.UlidGenerator.generateUlid();
-            String rawValue = ticket.getSalt() + ":" + entropy + ":" + hashedIp;
-            String fullyMixed = IpAddressService.shuffleAndShiftHash(rawValue, entropy);
-            readLog.setReadByIpAddress(fullyMixed);
-
-            readLogRepository.save(readLog);
-            log.info("MsgXServiceImpl::CreateReadLog - Created read log for ticket {}", ticket.getTicketId());
-        }
-        catch (Exception e) {
-            log.error("MsgXServiceImpl::CreateReadLog - Failed to create read log: {}", e.getMessage());
-        }
+        // Written in batches in the background; the view does not wait for the insert
+        readLogWriter.enqueue(ticket.getTicketId(), ticket.getSalt(), clientIp);
     }
 
-    private String buildIpHashSalt(String userSalt, String hashIpAddress) {
-        String uuidEntropy = UniqueIdGenerators.UlidGenerator.generateUlid();
-        return userSalt + ":" + uuidEntropy + ":" + hashIpAddress;
-    }
-
-
     private ViewTicketResponse buildViewResponse(Ticket ticket, String decryptedContent) {
         ViewTicketResponse response = new ViewTicketResponse();
         response.setTicketNumber(ticket.getTicketNumber());
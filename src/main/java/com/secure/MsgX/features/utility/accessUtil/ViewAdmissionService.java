@@ -0,0 +1,98 @@
+package com.secure.MsgX.features.utility.accessUtil;
+
+import com.secure.MsgX.core.entity.Ticket;
+import com.secure.MsgX.core.enums.TicketStatus;
+import com.secure.MsgX.core.enums.TicketType;
+import com.secure.MsgX.core.exceptions.GlobalMsgXExceptions;
+import com.secure.MsgX.features.repository.TicketRepository;
+import com.secure.MsgX.features.utility.commonUtil.DerivedKeyCache;
+import com.secure.MsgX.features.utility.conversationUtil.ReplyEventBus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+
+/**
+ * Admits ticket views with an atomic conditional update instead of read-modify-write on the entity,
+ * so concurrent viewers can never push a ticket past maxViews.
+ * BROADCAST tickets with a large maxViews can optionally be served from reserved slot blocks.
+ */
+@Slf4j
+@Service
+public class ViewAdmissionService {
+
+    private final TicketRepository ticketRepository;
+    private final DerivedKeyCache derivedKeyCache;
+    private final ReplyEventBus replyEventBus;
+    private final boolean reservationEnabled;
+    private final long reservationMinMaxViews;
+    private final ViewSlotReservations viewSlotReservations;
+
+    public ViewAdmissionService(TicketRepository ticketRepository,
+                                DerivedKeyCache derivedKeyCache,
+                                ReplyEventBus replyEventBus,
+                                @Value("${msgx.views.reservation.enabled:false}") boolean reservationEnabled,
+                                @Value("${msgx.views.reservation.block-size:100}") long reservationBlockSize,
+                                @Value("${msgx.views.reservation.min-max-views:10000}") long reservationMinMaxViews) {
+        this.ticketRepository = ticketRepository;
+        this.derivedKeyCache = derivedKeyCache;
+        this.replyEventBus = replyEventBus;
+        this.reservationEnabled = reservationEnabled;
+        this.reservationMinMaxViews = reservationMinMaxViews;
+        this.viewSlotReservations = new ViewSlotReservations(
+                (ticketId, blockSize) -> ticketRepository.reserveViewSlots(ticketId, blockSize)
+                        .map(grant -> new long[]{grant.getPreviousCount(), grant.getNewCount()})
+                        .orElse(null),
+                reservationBlockSize);
+    }
+
+    /**
+     * Consumes one view of the ticket and returns the view count including it.
+     * Updates the in-memory ticket's count and, when the last view was taken, its status.
+     */
+    public long admitView(Ticket ticket) {
+        long viewCount = useReservations(ticket)
+                ? viewSlotReservations.claim(ticket.getTicketId())
+                : ticketRepository.admitView(ticket.getTicketId()).orElse(-1L);
+
+        if (viewCount < 0) {
+            log.info("ViewAdmissionService::admitView - View refused for ticket {}", ticket.getTicketId());
+            markViewLimitReached(ticket);
+            throw new GlobalMsgXExceptions("You have reached the maximum number of allowed views for this ticket. " +
+                    "No further access is permitted. " +
+                    "For additional access, please contact the creator of this ticket.");
+        }
+
+        ticket.setCountViews(viewCount);
+        if (Objects.nonNull(ticket.getMaxViews()) && viewCount >= ticket.getMaxViews()) {
+            markViewLimitReached(ticket);
+        }
+        return viewCount;
+    }
+
+    public void release(String ticketId) {
+        viewSlotReservations.release(ticketId);
+    }
+
+    /**
+     * True when views of this ticket are served from reserved blocks. The stored count_views then runs ahead
+     * of the views actually served, so only {@link #admitView} can tell whether a view is still available.
+     */
+    public boolean useReservations(Ticket ticket) {
+        return reservationEnabled
+                && ticket.getTicketType() == TicketType.BROADCAST
+                && Objects.nonNull(ticket.getMaxViews())
+                && ticket.getMaxViews() >= reservationMinMaxViews;
+    }
+
+    private void markViewLimitReached(Ticket ticket) {
+        if (ticketRepository.markViewLimitReached(ticket.getTicketId()) > 0) {
+            log.info("ViewAdmissionService::markViewLimitReached - Ticket {} reached its view limit", ticket.getTicketId());
+        }
+        ticket.setTicketStatus(TicketStatus.VIEW_LIMIT_REACHED);
+        derivedKeyCache.evictTicket(ticket.getTicketId());
+        replyEventBus.closeTicket(ticket.getTicketId());
+        viewSlotReservations.release(ticket.getTicketId());
+    }
+}
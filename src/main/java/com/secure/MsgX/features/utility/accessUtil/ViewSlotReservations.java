@@ -0,0 +1,90 @@
+package com.secure.MsgX.features.utility.accessUtil;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out view slots for very hot tickets from blocks reserved in the database.
+ * Each block is claimed with a single conditional update, after which slots are served lock-free
+ * from memory until the block runs out. Slots never exceed max_views; slots left unused when the
+ * process stops are simply not served, so a ticket can under-deliver views but never over-deliver.
+ */
+public class ViewSlotReservations {
+
+    /**
+     * Reserves up to {@code blockSize} slots for the ticket and returns the stored count
+     * before and after, or null when the ticket has no slots left.
+     */
+    @FunctionalInterface
+    public interface SlotSource {
+        long[] reserve(String ticketId, long blockSize);
+    }
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final SlotSource slotSource;
+    private final long blockSize;
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+    // ReentrantLock rather than synchronized: the refill does a database round trip, which would pin a virtual thread
+    private final ReentrantLock[] refillLocks = new ReentrantLock[LOCK_STRIPES];
+
+    public ViewSlotReservations(SlotSource slotSource, long blockSize) {
+        this.slotSource = slotSource;
+        this.blockSize = blockSize;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            refillLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * @return the view number claimed (1-based, equal to the ticket's view count including this view),
+     *         or -1 when no slots are left
+     */
+    public long claim(String ticketId) {
+        while (true) {
+            Block block = blocks.get(ticketId);
+            if (Objects.nonNull(block)) {
+                long slot = block.cursor.getAndIncrement();
+                if (slot < block.end) {
+                    return slot + 1;
+                }
+            }
+
+            ReentrantLock refillLock = refillLocks[Math.floorMod(ticketId.hashCode(), LOCK_STRIPES)];
+            refillLock.lock();
+            try {
+                // Another thread may have refilled while we waited
+                Block current = blocks.get(ticketId);
+                if (current != block) {
+                    continue;
+                }
+                long[] grant = slotSource.reserve(ticketId, blockSize);
+                if (Objects.isNull(grant) || grant[1] <= grant[0]) {
+                    blocks.remove(ticketId);
+                    return -1;
+                }
+                blocks.put(ticketId, new Block(grant[0], grant[1]));
+            }
+            finally {
+                refillLock.unlock();
+            }
+        }
+    }
+
+    public void release(String ticketId) {
+        blocks.remove(ticketId);
+    }
+
+    private static final class Block {
+        private final AtomicLong cursor;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.cursor = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
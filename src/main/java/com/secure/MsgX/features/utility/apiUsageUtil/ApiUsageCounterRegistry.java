@@ -0,0 +1,112 @@
+package com.secure.MsgX.features.utility.apiUsageUtil;
+
+import com.secure.MsgX.core.entity.ApiUsageMetrics;
+import com.secure.MsgX.core.enums.TicketType;
+import com.secure.MsgX.features.repository.ApiUsageMetricsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory API usage counters keyed by (method, endpoint, ticket type).
+ * Requests only bump a LongAdder; a background flusher writes the accumulated deltas with
+ * {@code hit_count = hit_count + ?} updates, and the remainder is flushed on shutdown.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApiUsageCounterRegistry {
+
+    private final ApiUsageMetricsRepository apiUsageMetricsRepository;
+
+    private final Map<UsageKey, LongAdder> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public void record(String httpMethod, String apiEndpoint, TicketType ticketType) {
+        pending.computeIfAbsent(new UsageKey(httpMethod.toUpperCase(), apiEndpoint, ticketType), key -> new LongAdder())
+                .increment();
+    }
+
+    /**
+     * Persisted counts merged with the deltas not flushed yet.
+     */
+    public Map<UsageKey, Long> mergedCounts() {
+        Map<UsageKey, Long> merged = new HashMap<>();
+        for (ApiUsageMetrics metrics : apiUsageMetricsRepository.findAll()) {
+            UsageKey key = new UsageKey(metrics.getHttpMethod(), metrics.getApiEndpoint(), metrics.getTicketType());
+            merged.merge(key, metrics.getHitCount(), Long::sum);
+        }
+        pending.forEach((key, adder) -> {
+            long unflushed = adder.sum();
+            if (unflushed > 0) {
+                merged.merge(key, unflushed, Long::sum);
+            }
+        });
+        return merged;
+    }
+
+    @Scheduled(fixedDelayString = "${msgx.api-usage.flush-interval:PT10S}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("ApiUsageCounterRegistry::flushOnShutdown - Flushing pending API usage counters");
+        flush();
+    }
+
+    void flush() {
+        flushLock.lock();
+        try {
+            pending.forEach((key, adder) -> {
+                long delta = adder.sumThenReset();
+                if (delta == 0) {
+                    return;
+                }
+                try {
+                    persist(key, delta);
+                }
+                catch (Exception ex) {
+                    // Keep the delta so the next flush retries it
+                    adder.add(delta);
+                    log.error("ApiUsageCounterRegistry::flush - Failed to flush {} hits for {}: {}", delta, key, ex.getMessage());
+                }
+            });
+        }
+        finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void persist(UsageKey key, long delta) {
+        if (apiUsageMetricsRepository.incrementHitCount(key.httpMethod(), key.apiEndpoint(), key.ticketType(), delta) > 0) {
+            return;
+        }
+        try {
+            ApiUsageMetrics metrics = new ApiUsageMetrics();
+            metrics.setHttpMethod(key.httpMethod());
+            metrics.setApiEndpoint(key.apiEndpoint());
+            metrics.setTicketType(key.ticketType());
+            metrics.setHitCount(delta);
+            apiUsageMetricsRepository.save(metrics);
+        }
+        catch (DataIntegrityViolationException ex) {
+            // Another instance inserted the row first
+            apiUsageMetricsRepository.incrementHitCount(key.httpMethod(), key.apiEndpoint(), key.ticketType(), delta);
+        }
+        log.debug("ApiUsageCounterRegistry::persist - Flushed {} hits for {}", delta, key);
+    }
+
+    public record UsageKey(String httpMethod, String apiEndpoint, TicketType ticketType) {
+    }
+}
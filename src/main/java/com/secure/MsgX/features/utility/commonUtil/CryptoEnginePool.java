@@ -0,0 +1,63 @@
+package com.secure.MsgX.features.utility.commonUtil;
+
+import com.secure.MsgX.core.enums.EncryptionAlgo;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKeyFactory;
+import java.security.GeneralSecurityException;
+import java.security.Provider;
+import java.security.Security;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Reusable Cipher engines per {@link EncryptionAlgo} and PBKDF2 key factories.
+ * Engines are borrowed for one operation and handed back afterwards, so the synchronized
+ * provider lookup behind {@code getInstance} only runs when the pool is empty.
+ * Each pool is an {@link EnginePool}, so it stays bounded on virtual threads.
+ */
+public class CryptoEnginePool {
+
+    public static final String KEY_FACTORY_ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int DEFAULT_MAX_IDLE = 64;
+
+    private final Map<EncryptionAlgo, EnginePool<Cipher>> cipherPools = new EnumMap<>(EncryptionAlgo.class);
+    private final EnginePool<SecretKeyFactory> keyFactoryPool;
+
+    public CryptoEnginePool() {
+        this(DEFAULT_MAX_IDLE);
+    }
+
+    public CryptoEnginePool(int maxIdlePerAlgorithm) {
+        Provider bouncyCastle = Objects.requireNonNullElseGet(
+                Security.getProvider(BouncyCastleProvider.PROVIDER_NAME), BouncyCastleProvider::new);
+
+        for (EncryptionAlgo algorithm : EncryptionAlgo.values()) {
+            cipherPools.put(algorithm, new EnginePool<>(maxIdlePerAlgorithm,
+                    () -> Cipher.getInstance(algorithm.getTransformation(), bouncyCastle)));
+        }
+        Provider keyFactoryProvider;
+        try {
+            keyFactoryProvider = SecretKeyFactory.getInstance(KEY_FACTORY_ALGORITHM).getProvider();
+        }
+        catch (GeneralSecurityException e) {
+            throw new IllegalStateException(KEY_FACTORY_ALGORITHM + " not available", e);
+        }
+        keyFactoryPool = new EnginePool<>(maxIdlePerAlgorithm,
+                () -> SecretKeyFactory.getInstance(KEY_FACTORY_ALGORITHM, keyFactoryProvider));
+    }
+
+    /**
+     * Runs {@code work} with a Cipher for the algorithm. The callee must call {@code init} itself;
+     * the engine is only returned to the pool when {@code work} completes normally.
+     */
+    public <T> T withCipher(EncryptionAlgo algorithm, EnginePool.EngineWork<Cipher, T> work) throws GeneralSecurityException {
+        return cipherPools.get(algorithm).execute(work);
+    }
+
+    public <T> T withKeyFactory(EnginePool.EngineWork<SecretKeyFactory, T> work) throws GeneralSecurityException {
+        return keyFactoryPool.execute(work);
+    }
+}
@@ -2,7 +2,7 @@ package com.secure.MsgX.features.utility.commonUtil;
 
 import com.secure.MsgX.core.enums.EncryptionAlgo;
 import com.secure.MsgX.core.exceptions.GlobalMsgXExceptions;
-import lombok.Getter;
+import com.secure.MsgX.core.jfr.CryptoEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
@@ -11,7 +11,6 @@ import org.springframework.stereotype.Service;
 
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
-import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.PBEKeySpec;
 import javax.crypto.spec.SecretKeySpec;
@@ -21,7 +20,7 @@ import java.security.Security;
 import java.security.spec.KeySpec;
 import java.util.Base64;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
 @Slf4j
 @Service
@@ -36,50 +35,46 @@ public class CryptoService {
     private static final int SALT_LENGTH = 16;
     private static final int PBKDF2_ITERATIONS = 100000;
 
-    @Getter
-    private byte[] lastGeneratedIV;
     private final PasswordEncoder passwordEncoder = Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8();
+    private final CryptoEnginePool enginePool = new CryptoEnginePool();
 
-    public String encryptContent(String plainText,
-                                 List<String> passkeys,
-                                 String salt,
-                                 EncryptionAlgo algorithm) throws GlobalMsgXExceptions {
-        try {
-            // Normalize inputs
-            String normalizedSalt = salt.trim();
-            List<String> normalizedPasskeys = passkeys.stream()
-                    .map(String::trim)
-                    .sorted()
-                    .toList();
-
-            log.info("CryptoService::EncryptContent - Encrypting with salt: '{}' and passkeys: {}", normalizedSalt, normalizedPasskeys);
-
-            // Key derivation
-            String keyInput = String.join("|", normalizedPasskeys) + "|" + normalizedSalt;
-            byte[] saltBytes = normalizedSalt.getBytes(StandardCharsets.UTF_8);
-
-            SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
-            KeySpec spec = new PBEKeySpec(
-                    keyInput.toCharArray(),
-                    saltBytes,
-                    PBKDF2_ITERATIONS,
-                    algorithm.getKeyLength() * 8
-            );
-
-            SecretKey secretKey = new SecretKeySpec(factory.generateSecret(spec).getEncoded(), "AES");
+    public SealedEnvelope encryptContent(String plainText,
+                                         List<String> passkeys,
+                                         String salt,
+                                         EncryptionAlgo algorithm) throws GlobalMsgXExceptions {
+        return encryptContent(plainText, deriveKey(passkeys, salt, algorithm));
+    }
 
-            // Encryption
+    /**
+     * Encrypts a payload with a key obtained from {@link #deriveKey}.
+     * A fresh IV is generated per call and returned inside the envelope, never kept on this shared bean.
+     */
+    public SealedEnvelope encryptContent(String plainText, DerivedKey derivedKey) throws GlobalMsgXExceptions {
+        CryptoEvent event = CryptoEvent.start(CryptoEvent.ENCRYPT, algorithmOf(derivedKey), 0);
+        try {
+            EncryptionAlgo algorithm = derivedKey.algorithm();
             byte[] iv = generateIV();
-            lastGeneratedIV = iv;
-
-            Cipher cipher = Cipher.getInstance(algorithm.getTransformation(), "BC");
-            cipher.init(Cipher.ENCRYPT_MODE, secretKey, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
-
-            byte[] encrypted = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
-            return Base64.getEncoder().encodeToString(encrypted);
+            byte[] plainBytes = plainText.getBytes(StandardCharsets.UTF_8);
+            event.payloadSize = plainBytes.length;
+
+            byte[] encrypted = enginePool.withCipher(algorithm, cipher -> {
+                cipher.init(Cipher.ENCRYPT_MODE, derivedKey.secretKey(), new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+                return cipher.doFinal(plainBytes);
+            });
+            SealedEnvelope envelope = new SealedEnvelope(
+                    Base64.getEncoder().encodeToString(encrypted),
+                    Base64.getEncoder().encodeToString(iv),
+                    algorithm,
+                    SealedEnvelope.CURRENT_VERSION
+            );
+            event.succeeded = true;
+            return envelope;
         } catch (Exception e) {
             throw new GlobalMsgXExceptions("Encryption failed: " + e.getMessage(), e);
         }
+        finally {
+            event.commit();
+        }
     }
 
     public String decryptContent(String base64CipherText,
@@ -87,21 +82,61 @@ public class CryptoService {
                                  String salt,
                                  String base64Iv,
                                  EncryptionAlgo algorithm) throws GlobalMsgXExceptions {
+        return decryptContent(base64CipherText, base64Iv, deriveKey(passkeys, salt, algorithm));
+    }
+
+    /**
+     * Decrypts a single payload with a key obtained from {@link #deriveKey}.
+     * Use this when several payloads of the same ticket (message body and replies) are decrypted in one request.
+     */
+    public String decryptContent(String base64CipherText,
+                                 String base64Iv,
+                                 DerivedKey derivedKey) throws GlobalMsgXExceptions {
+        CryptoEvent event = CryptoEvent.start(CryptoEvent.DECRYPT, algorithmOf(derivedKey), 0);
+        try {
+            byte[] iv = Base64.getDecoder().decode(base64Iv);
+            byte[] cipherText = Base64.getDecoder().decode(base64CipherText);
+            event.payloadSize = cipherText.length;
+
+            byte[] decrypted = enginePool.withCipher(derivedKey.algorithm(), cipher -> {
+                cipher.init(Cipher.DECRYPT_MODE, derivedKey.secretKey(), new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+                return cipher.doFinal(cipherText);
+            });
+            String plainText = new String(decrypted, StandardCharsets.UTF_8);
+            event.succeeded = true;
+            return plainText;
+        }
+        catch (Exception e) {
+            log.error("CryptoService::DecryptContent - Decryption failed. Error: {}", e.getMessage(), e);
+            throw new GlobalMsgXExceptions("Decryption failed. Please verify: " +
+                    "1. The exact passkey is correct (including case and whitespace)\n" +
+                    "2. The ticket hasn't been corrupted\n" +
+                    "Technical details: " + e.getMessage());
+        }
+        finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Runs the PBKDF2 derivation for a ticket once and returns a reusable key handle.
+     * Passkeys and salt are normalized exactly as they were at encryption time.
+     */
+    public DerivedKey deriveKey(List<String> passkeys, String salt, EncryptionAlgo algorithm) throws GlobalMsgXExceptions {
+        CryptoEvent event = CryptoEvent.start(CryptoEvent.KEY_DERIVATION, algorithm, Objects.nonNull(passkeys) ? passkeys.size() : 0);
         try {
-            // Normalize exactly as during encryption
+            // Normalize inputs
             String normalizedSalt = salt.trim();
             List<String> normalizedPasskeys = passkeys.stream()
                     .map(String::trim)
                     .sorted()
                     .toList();
 
-            log.info("CryptoService::DecryptContent - Decrypting with salt: '{}' and passkeys: {}", normalizedSalt, normalizedPasskeys);
+            log.info("CryptoService::DeriveKey - Deriving {} key with salt: '{}' from {} passkeys", algorithm, normalizedSalt, normalizedPasskeys.size());
 
-            // Key derivation (must match encryption exactly)
             String keyInput = String.join("|", normalizedPasskeys) + "|" + normalizedSalt;
             byte[] saltBytes = normalizedSalt.getBytes(StandardCharsets.UTF_8);
 
-            SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
             KeySpec spec = new PBEKeySpec(
                     keyInput.toCharArray(),
                     saltBytes,
@@ -109,57 +144,43 @@ public class CryptoService {
                     algorithm.getKeyLength() * 8
             );
 
-            SecretKey secretKey = new SecretKeySpec(factory.generateSecret(spec).getEncoded(), "AES");
-
-            // Decryption
-            byte[] iv = Base64.getDecoder().decode(base64Iv);
-            byte[] cipherText = Base64.getDecoder().decode(base64CipherText);
-
-            Cipher cipher = Cipher.getInstance(algorithm.getTransformation(), "BC");
-            cipher.init(Cipher.DECRYPT_MODE, secretKey, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
-
-            return new String(cipher.doFinal(cipherText), StandardCharsets.UTF_8);
+            byte[] keyBytes = enginePool.withKeyFactory(factory -> factory.generateSecret(spec).getEncoded());
+            SecretKey secretKey = new SecretKeySpec(keyBytes, "AES");
+            event.succeeded = true;
+            return new DerivedKey(secretKey, algorithm);
         }
         catch (Exception e) {
-            log.error("CryptoService::DecryptContent - Decryption failed. Error: {}", e.getMessage(), e);
-            throw new GlobalMsgXExceptions("Decryption failed. Please verify: " +
-                    "1. The exact passkey is correct (including case and whitespace)\n" +
-                    "2. The ticket hasn't been corrupted\n" +
-                    "Technical details: " + e.getMessage());
+            log.error("CryptoService::DeriveKey - Key derivation failed. Error: {}", e.getMessage(), e);
+            throw new GlobalMsgXExceptions("Key derivation failed: " + e.getMessage(), e);
+        }
+        finally {
+            event.commit();
         }
-    }
-
-    public String getLastGeneratedIVAsBase64() {
-        return Base64.getEncoder().encodeToString(lastGeneratedIV);
-    }
-
-    private SecretKey deriveKey(List<String> passkeys, String salt, EncryptionAlgo algorithm) throws Exception {
-        // Create a consistent key derivation input
-        String combinedInput = passkeys.stream()
-                .map(String::trim)
-                .sorted()
-                .collect(Collectors.joining("::")) + "||" + salt;
-
-        log.debug("Key derivation input: {}", combinedInput);
-
-        byte[] saltBytes = salt.getBytes(StandardCharsets.UTF_8);
-        SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
-        KeySpec spec = new PBEKeySpec(
-                combinedInput.toCharArray(),
-                saltBytes,
-                PBKDF2_ITERATIONS,
-                algorithm.getKeyLength() * 8
-        );
-
-        return new SecretKeySpec(factory.generateSecret(spec).getEncoded(), "AES");
     }
 
     public String hashPasskey(String passkey) {
-        return passwordEncoder.encode(passkey);
+        CryptoEvent event = CryptoEvent.start(CryptoEvent.PASSKEY_HASH, null, 1);
+        try {
+            String hash = passwordEncoder.encode(passkey);
+            event.succeeded = true;
+            return hash;
+        }
+        finally {
+            event.commit();
+        }
     }
 
     public boolean verifyPasskey(String rawPasskey, String hashedPasskey) {
-        return passwordEncoder.matches(rawPasskey, hashedPasskey);
+        CryptoEvent event = CryptoEvent.start(CryptoEvent.PASSKEY_VERIFY, null, 1);
+        try {
+            boolean matches = passwordEncoder.matches(rawPasskey, hashedPasskey);
+            // A mismatch is a completed verification, not a failure of the operation
+            event.succeeded = true;
+            return matches;
+        }
+        finally {
+            event.commit();
+        }
     }
 
     public String generateSalt() {
@@ -168,6 +189,10 @@ public class CryptoService {
         return Base64.getUrlEncoder().withoutPadding().encodeToString(salt);
     }
 
+    private static EncryptionAlgo algorithmOf(DerivedKey derivedKey) {
+        return Objects.nonNull(derivedKey) ? derivedKey.algorithm() : null;
+    }
+
     private byte[] generateIV() {
         byte[] iv = new byte[IV_LENGTH];
         SECURE_RANDOM.nextBytes(iv);
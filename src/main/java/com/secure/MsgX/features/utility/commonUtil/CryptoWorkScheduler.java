@@ -0,0 +1,177 @@
+package com.secure.MsgX.features.utility.commonUtil;
+
+import com.secure.MsgX.core.enums.CryptoOperation;
+import com.secure.MsgX.core.enums.TicketType;
+import com.secure.MsgX.core.exceptions.CryptoCapacityExceededException;
+import com.secure.MsgX.core.exceptions.GlobalMsgXExceptions;
+import com.secure.MsgX.core.jfr.CryptoEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Admission control for CPU-heavy crypto work (Argon2, PBKDF2).
+ * Work runs on a bounded pool owned by this component; by default it leaves one core to the web tier so health
+ * checks and cheap endpoints keep answering while crypto is saturated. When the queue is full, or a task cannot
+ * finish within {@code max-wait}, the caller gets a {@link CryptoCapacityExceededException} (503 + Retry-After)
+ * instead of tying up another request thread. Queue depth, wait time and rejections are published as meters.
+ * The pool is not exposed as a bean: any Executor bean would stop Boot from creating its task executor for MVC async work.
+ */
+@Slf4j
+@Component
+public class CryptoWorkScheduler {
+
+    private static final ThreadLocal<Boolean> ON_CRYPTO_WORKER = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final ThreadPoolExecutor cryptoExecutor;
+    private final Duration maxWait;
+    private final long retryAfterSeconds;
+
+    private final Map<CryptoOperation, Timer> waitTimers = new EnumMap<>(CryptoOperation.class);
+    private final Map<CryptoOperation, Timer> executionTimers = new EnumMap<>(CryptoOperation.class);
+    private final Map<CryptoOperation, Counter> rejections = new EnumMap<>(CryptoOperation.class);
+
+    public CryptoWorkScheduler(@Value("${msgx.crypto.executor.threads:0}") int threads,
+                               @Value("${msgx.crypto.executor.queue-capacity:256}") int queueCapacity,
+                               @Value("${msgx.crypto.executor.max-wait:PT30S}") Duration maxWait,
+                               @Value("${msgx.crypto.executor.retry-after-seconds:2}") long retryAfterSeconds,
+                               MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("msgx-crypto-");
+        threadFactory.setDaemon(true);
+        this.cryptoExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        log.info("CryptoWorkScheduler::init - threads={}, queueCapacity={}", poolSize, queueCapacity);
+
+        this.maxWait = maxWait;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        for (CryptoOperation operation : CryptoOperation.values()) {
+            String tag = operation.name().toLowerCase();
+            waitTimers.put(operation, Timer.builder("msgx.crypto.scheduler.wait")
+                    .description("Time crypto work spent queued before a worker picked it up")
+                    .tag("operation", tag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            executionTimers.put(operation, Timer.builder("msgx.crypto.scheduler.execution")
+                    .description("Time crypto work spent running on a worker")
+                    .tag("operation", tag)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            rejections.put(operation, Counter.builder("msgx.crypto.scheduler.rejected")
+                    .description("Crypto work rejected because the queue was full or the wait limit passed")
+                    .tag("operation", tag)
+                    .register(meterRegistry));
+        }
+        Gauge.builder("msgx.crypto.scheduler.queue.depth", cryptoExecutor, executor -> executor.getQueue().size())
+                .description("Crypto tasks waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("msgx.crypto.scheduler.active", cryptoExecutor, ThreadPoolExecutor::getActiveCount)
+                .description("Crypto workers currently busy")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        cryptoExecutor.shutdown();
+    }
+
+    /**
+     * Queues {@code work} and returns its future. Fails fast when the queue is full.
+     * Cancelling the future before a worker picks it up skips the work entirely.
+     * Called from a crypto worker, the work runs inline so nested submissions cannot deadlock the pool.
+     * The caller's ticket type (see {@link CryptoEvent#forTicketType}) travels with the work to the worker.
+     */
+    public <T> CompletableFuture<T> submit(CryptoOperation operation, Callable<T> work) {
+        if (ON_CRYPTO_WORKER.get()) {
+            try {
+                return CompletableFuture.completedFuture(work.call());
+            }
+            catch (Exception ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+        }
+
+        long queuedAt = System.nanoTime();
+        TicketType ticketType = CryptoEvent.currentTicketType();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                waitTimers.get(operation).record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                ON_CRYPTO_WORKER.set(Boolean.TRUE);
+                long startedAt = System.nanoTime();
+                try (CryptoEvent.TicketTypeScope ticketTypeScope = CryptoEvent.forTicketType(ticketType)) {
+                    return work.call();
+                }
+                catch (RuntimeException ex) {
+                    throw ex;
+                }
+                catch (Exception ex) {
+                    throw new CompletionException(ex);
+                }
+                finally {
+                    executionTimers.get(operation).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    ON_CRYPTO_WORKER.set(Boolean.FALSE);
+                }
+            }, cryptoExecutor);
+        }
+        catch (RejectedExecutionException ex) {
+            rejections.get(operation).increment();
+            log.warn("CryptoWorkScheduler::submit - Rejected {} work, queue depth {}", operation, cryptoExecutor.getQueue().size());
+            throw new CryptoCapacityExceededException("The service is busy processing other secure requests. Please retry shortly.",
+                    retryAfterSeconds, ex);
+        }
+    }
+
+    /**
+     * Runs {@code work} on the crypto executor and waits for the result.
+     */
+    public <T> T call(CryptoOperation operation, Callable<T> work) {
+        return await(operation, submit(operation, work));
+    }
+
+    /**
+     * Waits for a future obtained from {@link #submit}, honouring the configured wait limit.
+     */
+    public <T> T await(CryptoOperation operation, Future<T> future) {
+        try {
+            return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        catch (TimeoutException ex) {
+            future.cancel(true);
+            rejections.get(operation).increment();
+            throw new CryptoCapacityExceededException("The service is busy processing other secure requests. Please retry shortly.",
+                    retryAfterSeconds, ex);
+        }
+        catch (InterruptedException ex) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new GlobalMsgXExceptions("Crypto work was interrupted", ex);
+        }
+        catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new GlobalMsgXExceptions("Crypto work failed: " + ex.getCause().getMessage(), ex.getCause());
+        }
+    }
+}
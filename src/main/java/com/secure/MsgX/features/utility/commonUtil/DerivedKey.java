@@ -0,0 +1,18 @@
+package com.secure.MsgX.features.utility.commonUtil;
+
+import com.secure.MsgX.core.enums.EncryptionAlgo;
+
+import javax.crypto.SecretKey;
+
+/**
+ * Key handle produced by {@link CryptoService#deriveKey}.
+ * Holds the PBKDF2 output for one ticket so the ticket body and all of its replies
+ * can be decrypted without running the key derivation again for every payload.
+ */
+public record DerivedKey(SecretKey secretKey, EncryptionAlgo algorithm) {
+
+    @Override
+    public String toString() {
+        return "DerivedKey[algorithm=" + algorithm + "]";
+    }
+}
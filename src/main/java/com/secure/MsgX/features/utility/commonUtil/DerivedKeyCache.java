@@ -0,0 +1,242 @@
+package com.secure.MsgX.features.utility.commonUtil;
+
+import com.secure.MsgX.core.entity.Passkey;
+import com.secure.MsgX.core.entity.Ticket;
+import com.secure.MsgX.core.enums.TicketType;
+import com.secure.MsgX.core.exceptions.GlobalMsgXExceptions;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Opt-in, size- and TTL-bounded cache of PBKDF2 derived keys.
+ * Entries are keyed by an HMAC fingerprint of (ticketId, passkey hashes, supplied passkeys, salt, algo)
+ * computed with a per-process secret, so the cache never holds anything a passkey could be recovered from.
+ * Concurrent misses for the same fingerprint share a single derivation.
+ */
+@Slf4j
+@Component
+public class DerivedKeyCache {
+
+    private static final String FINGERPRINT_ALGORITHM = "HmacSHA256";
+    private static final int MAX_IDLE_MACS = 64;
+
+    private final boolean enabled;
+    private final int maxSize;
+    private final Duration ttl;
+    private final Set<TicketType> ticketTypes;
+    // Macs keyed once with a per-process secret and reused, since getInstance and init cost more than the fingerprint
+    private final EnginePool<Mac> fingerprintMacs;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public DerivedKeyCache(@Value("${msgx.crypto.key-cache.enabled:false}") boolean enabled,
+                           @Value("${msgx.crypto.key-cache.max-size:1000}") int maxSize,
+                           @Value("${msgx.crypto.key-cache.ttl:PT5M}") Duration ttl,
+                           @Value("${msgx.crypto.key-cache.ticket-types:BROADCAST}") Set<TicketType> ticketTypes,
+                           MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.ticketTypes = ticketTypes;
+        byte[] fingerprintSecret = new byte[32];
+        new SecureRandom().nextBytes(fingerprintSecret);
+        SecretKeySpec fingerprintKey = new SecretKeySpec(fingerprintSecret, FINGERPRINT_ALGORITHM);
+        this.fingerprintMacs = new EnginePool<>(MAX_IDLE_MACS, () -> {
+            Mac mac = Mac.getInstance(FINGERPRINT_ALGORITHM);
+            mac.init(fingerprintKey);
+            return mac;
+        });
+
+        FunctionCounter.builder("msgx.crypto.key.cache.gets", hits, LongAdder::doubleValue)
+                .tag("result", "hit")
+                .description("Derived-key cache lookups served from memory")
+                .register(meterRegistry);
+        FunctionCounter.builder("msgx.crypto.key.cache.gets", misses, LongAdder::doubleValue)
+                .tag("result", "miss")
+                .description("Derived-key cache lookups that ran PBKDF2")
+                .register(meterRegistry);
+        FunctionCounter.builder("msgx.crypto.key.cache.evictions", evictions, LongAdder::doubleValue)
+                .description("Derived keys dropped because of TTL, size, delete or status change")
+                .register(meterRegistry);
+        Gauge.builder("msgx.crypto.key.cache.size", entries, Map::size)
+                .description("Derived keys currently held in memory")
+                .register(meterRegistry);
+
+        log.info("DerivedKeyCache::init - enabled={}, maxSize={}, ttl={}, ticketTypes={}", enabled, maxSize, ttl, ticketTypes);
+    }
+
+    /**
+     * Returns the derived key for the ticket, running {@code derivation} only when no live entry exists.
+     * Tickets whose type is not configured for caching always go straight to {@code derivation}.
+     */
+    public DerivedKey getOrDerive(Ticket ticket, List<String> passkeyValues, Supplier<DerivedKey> derivation) {
+        if (!enabled || !ticketTypes.contains(ticket.getTicketType())) {
+            return derivation.get();
+        }
+
+        Instant now = Instant.now();
+        String fingerprint = fingerprint(ticket, passkeyValues);
+        Entry fresh = new Entry(ticket.getTicketId(), expiryFor(ticket, now));
+
+        Entry current = entries.compute(fingerprint, (key, existing) -> {
+            if (Objects.nonNull(existing) && !existing.isExpired(now)) {
+                return existing;
+            }
+            if (Objects.nonNull(existing)) {
+                evictions.increment();
+            }
+            return fresh;
+        });
+
+        if (current != fresh) {
+            hits.increment();
+            try {
+                return current.key.join();
+            }
+            catch (CompletionException ex) {
+                // The derivation we were waiting on failed; fall back to our own attempt
+                return derivation.get();
+            }
+        }
+
+        misses.increment();
+        try {
+            DerivedKey derivedKey = derivation.get();
+            fresh.key.complete(derivedKey);
+            trimToSize();
+            return derivedKey;
+        }
+        catch (RuntimeException ex) {
+            fresh.key.completeExceptionally(ex);
+            entries.remove(fingerprint, fresh);
+            throw ex;
+        }
+    }
+
+    /**
+     * Drops every cached key that belongs to the ticket. Called on delete and on any status change.
+     */
+    public void evictTicket(String ticketId) {
+        if (!enabled || Objects.isNull(ticketId)) {
+            return;
+        }
+        entries.entrySet().removeIf(entry -> {
+            boolean matches = ticketId.equals(entry.getValue().ticketId);
+            if (matches) {
+                evictions.increment();
+            }
+            return matches;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${msgx.crypto.key-cache.purge-interval:PT30S}")
+    public void purgeExpired() {
+        if (!enabled || entries.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        entries.entrySet().removeIf(entry -> {
+            boolean expired = entry.getValue().isExpired(now);
+            if (expired) {
+                evictions.increment();
+            }
+            return expired;
+        });
+    }
+
+    private void trimToSize() {
+        int overflow = entries.size() - maxSize;
+        if (overflow <= 0) {
+            return;
+        }
+        purgeExpired();
+        entries.entrySet().stream()
+                .sorted(Comparator.comparing(entry -> entry.getValue().expiresAt))
+                .limit(Math.max(0, entries.size() - maxSize))
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(fingerprint -> {
+                    if (Objects.nonNull(entries.remove(fingerprint))) {
+                        evictions.increment();
+                    }
+                });
+    }
+
+    private Instant expiryFor(Ticket ticket, Instant now) {
+        Instant expiry = now.plus(ttl);
+        if (Objects.nonNull(ticket.getExpiresAt()) && ticket.getExpiresAt().isBefore(expiry)) {
+            expiry = ticket.getExpiresAt();
+        }
+        if (Objects.nonNull(ticket.getOpenUntil()) && ticket.getOpenUntil().isBefore(expiry)) {
+            expiry = ticket.getOpenUntil();
+        }
+        return expiry;
+    }
+
+    private String fingerprint(Ticket ticket, List<String> passkeyValues) {
+        try {
+            return fingerprintMacs.execute(mac -> {
+                update(mac, ticket.getTicketId());
+                update(mac, ticket.getEncryptionAlgo().name());
+                update(mac, ticket.getSalt());
+                ticket.getPasskeys().stream()
+                        .sorted(Comparator.comparingInt(Passkey::getKeyOrder))
+                        .forEach(passkey -> update(mac, passkey.getPasskeyHash()));
+                passkeyValues.forEach(value -> update(mac, value));
+
+                return Base64.getEncoder().encodeToString(mac.doFinal());
+            });
+        }
+        catch (Exception e) {
+            throw new GlobalMsgXExceptions("Unable to fingerprint derived key: " + e.getMessage(), e);
+        }
+    }
+
+    private static void update(Mac mac, String value) {
+        byte[] bytes = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+        mac.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        mac.update(bytes);
+    }
+
+    private static final class Entry {
+        private final String ticketId;
+        private final Instant expiresAt;
+        private final CompletableFuture<DerivedKey> key = new CompletableFuture<>();
+
+        private Entry(String ticketId, Instant expiresAt) {
+            this.ticketId = ticketId;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
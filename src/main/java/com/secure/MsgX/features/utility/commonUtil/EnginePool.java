@@ -0,0 +1,58 @@
+package com.secure.MsgX.features.utility.commonUtil;
+
+import java.security.GeneralSecurityException;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of JCA engines (Cipher, SecretKeyFactory, Mac, ...). An engine is borrowed for one operation and
+ * handed back afterwards, so {@code getInstance} and any key setup done by the factory only run when the pool is empty.
+ * A lock-free queue rather than a ThreadLocal so it stays bounded on virtual threads.
+ */
+public final class EnginePool<E> {
+
+    private final Queue<E> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final int maxIdle;
+    private final EngineFactory<E> factory;
+
+    public EnginePool(int maxIdle, EngineFactory<E> factory) {
+        this.maxIdle = maxIdle;
+        this.factory = factory;
+    }
+
+    /**
+     * Runs {@code work} with a pooled engine; the engine is only returned to the pool when {@code work} completes normally.
+     */
+    public <T> T execute(EngineWork<E, T> work) throws GeneralSecurityException {
+        E engine = idle.poll();
+        if (Objects.nonNull(engine)) {
+            idleCount.decrementAndGet();
+        }
+        else {
+            engine = factory.create();
+        }
+
+        // A failed operation may leave the engine half-initialized, so it is dropped instead of returned
+        T result = work.apply(engine);
+        if (idleCount.incrementAndGet() <= maxIdle) {
+            idle.offer(engine);
+        }
+        else {
+            idleCount.decrementAndGet();
+        }
+        return result;
+    }
+
+    @FunctionalInterface
+    public interface EngineWork<E, T> {
+        T apply(E engine) throws GeneralSecurityException;
+    }
+
+    @FunctionalInterface
+    public interface EngineFactory<E> {
+        E create() throws GeneralSecurityException;
+    }
+}
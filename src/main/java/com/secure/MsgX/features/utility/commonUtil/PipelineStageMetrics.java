@@ -0,0 +1,133 @@
+package com.secure.MsgX.features.utility.commonUtil;
+
+import com.secure.MsgX.core.entity.Ticket;
+import com.secure.MsgX.core.enums.EncryptionAlgo;
+import com.secure.MsgX.core.enums.PipelineStage;
+import com.secure.MsgX.core.enums.TicketPipeline;
+import com.secure.MsgX.core.enums.TicketType;
+import com.secure.MsgX.core.exceptions.CryptoCapacityExceededException;
+import com.secure.MsgX.core.exceptions.GlobalMsgXExceptions;
+import com.secure.MsgX.core.jfr.CryptoEvent;
+import com.secure.MsgX.core.jfr.PipelineStageEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times the stages of the create / view / reply pipelines as {@code msgx.pipeline.stage}, tagged by pipeline, stage,
+ * ticket_type, encryption_algo and outcome (success, rejected, overloaded, error). Rejected means the stage threw a
+ * GlobalMsgXExceptions, i.e. the request was refused rather than the server failing.
+ * Each stage is also emitted as a {@link PipelineStageEvent} for JFR recordings, and crypto events started within
+ * a stage carry its ticket type.
+ */
+@Component
+@RequiredArgsConstructor
+public class PipelineStageMetrics {
+
+    private static final String TIMER = "msgx.pipeline.stage";
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<StageKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public <T> T time(TicketPipeline pipeline, PipelineStage stage, TicketType ticketType, EncryptionAlgo encryptionAlgo, Supplier<T> work) {
+        PipelineStageEvent event = new PipelineStageEvent();
+        event.begin();
+        long startedAt = System.nanoTime();
+        String outcome = "error";
+        try (CryptoEvent.TicketTypeScope ticketTypeScope = CryptoEvent.forTicketType(ticketType)) {
+            T result = work.get();
+            outcome = "success";
+            return result;
+        }
+        catch (RuntimeException ex) {
+            outcome = outcomeOf(ex);
+            throw ex;
+        }
+        finally {
+            timer(new StageKey(pipeline, stage, ticketType, encryptionAlgo, outcome))
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            commit(event, pipeline, stage, ticketType, encryptionAlgo, outcome);
+        }
+    }
+
+    public <T> T time(TicketPipeline pipeline, PipelineStage stage, Ticket ticket, Supplier<T> work) {
+        return time(pipeline, stage, ticket.getTicketType(), ticket.getEncryptionAlgo(), work);
+    }
+
+    public void run(TicketPipeline pipeline, PipelineStage stage, Ticket ticket, Runnable work) {
+        time(pipeline, stage, ticket, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Times a ticket lookup; the tags come from the ticket found, or are "none" when the lookup fails.
+     */
+    public Ticket fetch(TicketPipeline pipeline, Supplier<Ticket> lookup) {
+        PipelineStageEvent event = new PipelineStageEvent();
+        event.begin();
+        long startedAt = System.nanoTime();
+        Ticket ticket = null;
+        String outcome = "error";
+        try {
+            ticket = lookup.get();
+            outcome = "success";
+            return ticket;
+        }
+        catch (RuntimeException ex) {
+            outcome = outcomeOf(ex);
+            throw ex;
+        }
+        finally {
+            TicketType ticketType = Objects.nonNull(ticket) ? ticket.getTicketType() : null;
+            EncryptionAlgo encryptionAlgo = Objects.nonNull(ticket) ? ticket.getEncryptionAlgo() : null;
+            timer(new StageKey(pipeline, PipelineStage.FETCH, ticketType, encryptionAlgo, outcome))
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            commit(event, pipeline, PipelineStage.FETCH, ticketType, encryptionAlgo, outcome);
+        }
+    }
+
+    private static void commit(PipelineStageEvent event, TicketPipeline pipeline, PipelineStage stage,
+                               TicketType ticketType, EncryptionAlgo encryptionAlgo, String outcome) {
+        if (event.shouldCommit()) {
+            event.pipeline = pipeline.name().toLowerCase();
+            event.stage = stage.name().toLowerCase();
+            event.ticketType = Objects.nonNull(ticketType) ? ticketType.name() : NONE;
+            event.encryptionAlgo = Objects.nonNull(encryptionAlgo) ? encryptionAlgo.name() : NONE;
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+
+    private static String outcomeOf(RuntimeException ex) {
+        if (ex instanceof CryptoCapacityExceededException) {
+            return "overloaded";
+        }
+        return ex instanceof GlobalMsgXExceptions ? "rejected" : "error";
+    }
+
+    private Timer timer(StageKey key) {
+        return timers.computeIfAbsent(key, k -> Timer.builder(TIMER)
+                .description("Time spent in one stage of a ticket pipeline")
+                .tag("pipeline", k.pipeline().name().toLowerCase())
+                .tag("stage", k.stage().name().toLowerCase())
+                .tag("ticket_type", Objects.nonNull(k.ticketType()) ? k.ticketType().name() : NONE)
+                .tag("encryption_algo", Objects.nonNull(k.encryptionAlgo()) ? k.encryptionAlgo().name() : NONE)
+                .tag("outcome", k.outcome())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private record StageKey(TicketPipeline pipeline, PipelineStage stage, TicketType ticketType,
+                            EncryptionAlgo encryptionAlgo, String outcome) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.secure.MsgX.features.utility.commonUtil;
+
+import com.secure.MsgX.core.enums.EncryptionAlgo;
+
+/**
+ * Immutable result of an encryption: Base64 ciphertext together with the Base64 IV it was sealed with.
+ * Returned by {@link CryptoService#encryptContent} so the IV can never be mixed up between concurrent callers.
+ */
+public record SealedEnvelope(String cipherText, String iv, EncryptionAlgo algorithm, int version) {
+
+    public static final int CURRENT_VERSION = 1;
+}
@@ -0,0 +1,137 @@
+package com.secure.MsgX.features.utility.commonUtil;
+
+import com.secure.MsgX.features.repository.WorkerLeaseRepository;
+import com.secure.MsgX.features.utility.ticketCreateUtil.UniqueIdGenerators.SnowflakeIdGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Source of compact 64-bit Snowflake ids that stay unique across replicas; replies take their {@code reply_seq} from it.
+ * Each instance leases a worker id from the database at startup and renews it on a heartbeat.
+ * Ids are only issued while the lease is known to be valid locally: if renewals fail (database unreachable,
+ * lease taken over) generation stops before the lease can expire, and a new worker id is leased on the next beat.
+ */
+@Slf4j
+@Service
+public class SnowflakeIdService {
+
+    private final WorkerLeaseRepository workerLeaseRepository;
+    private final Duration leaseTtl;
+    private final Duration maxClockRollback;
+    private final String instanceId;
+    private final Counter clockRollbacks;
+
+    private volatile Lease lease;
+
+    public SnowflakeIdService(WorkerLeaseRepository workerLeaseRepository,
+                              @Value("${msgx.ids.snowflake.lease-ttl:PT30S}") Duration leaseTtl,
+                              @Value("${msgx.ids.snowflake.max-clock-rollback:PT1S}") Duration maxClockRollback,
+                              MeterRegistry meterRegistry) {
+        this.workerLeaseRepository = workerLeaseRepository;
+        this.leaseTtl = leaseTtl;
+        this.maxClockRollback = maxClockRollback;
+        this.instanceId = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+
+        this.clockRollbacks = Counter.builder("msgx.ids.clock.rollbacks")
+                .description("Snowflake ids refused because the wall clock moved back too far")
+                .register(meterRegistry);
+        Gauge.builder("msgx.ids.worker", this, service -> Optional.ofNullable(service.lease).map(Lease::workerId).orElse(-1))
+                .description("Leased Snowflake worker id, -1 when none is held")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void init() {
+        log.info("SnowflakeIdService::init - instanceId={}, leaseTtl={}", instanceId, leaseTtl);
+        heartbeat();
+    }
+
+    /**
+     * @throws IllegalStateException when no valid lease is held or the clock moved back too far
+     */
+    public long nextId() {
+        Lease current = lease;
+        if (Objects.isNull(current) || System.nanoTime() - current.validUntilNanos() > 0) {
+            throw new IllegalStateException("SnowflakeIdService::nextId failed - No valid worker id lease is held by this instance");
+        }
+        try {
+            return current.generator().generateId();
+        }
+        catch (IllegalStateException ex) {
+            clockRollbacks.increment();
+            log.error("SnowflakeIdService::nextId - Refusing to issue ids for worker {}: {}", current.workerId(), ex.getMessage());
+            throw new IllegalStateException("SnowflakeIdService::nextId failed - " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Renews the current lease, or leases a new worker id when none is held or the old one was lost.
+     */
+    @Scheduled(fixedDelayString = "${msgx.ids.snowflake.heartbeat-interval:PT10S}")
+    public void heartbeat() {
+        // Taken before the round trip, so the local deadline never outlives the one stored in the database
+        long startedAt = System.nanoTime();
+        Lease current = lease;
+        try {
+            if (Objects.nonNull(current)) {
+                if (workerLeaseRepository.renew(current.workerId(), instanceId, leaseTtl)) {
+                    lease = current.renewed(startedAt + leaseTtl.toNanos());
+                    return;
+                }
+                log.warn("SnowflakeIdService::heartbeat - Lease on worker {} was lost, leasing a new worker id", current.workerId());
+                lease = null;
+            }
+            acquire(startedAt);
+        }
+        catch (DataAccessException ex) {
+            log.warn("SnowflakeIdService::heartbeat - Lease renewal failed, ids stop when the current lease runs out: {}", ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        Lease current = lease;
+        lease = null;
+        if (Objects.nonNull(current)) {
+            try {
+                workerLeaseRepository.release(current.workerId(), instanceId);
+                log.info("SnowflakeIdService::shutdown - Released worker {}", current.workerId());
+            }
+            catch (DataAccessException ex) {
+                log.warn("SnowflakeIdService::shutdown - Could not release worker {}, it expires on its own: {}", current.workerId(), ex.getMessage());
+            }
+        }
+    }
+
+    private void acquire(long startedAt) {
+        // An expired lease is only taken after another full TTL, covering clock skew with its previous holder
+        Optional<Integer> workerId = workerLeaseRepository.acquire(instanceId, leaseTtl, leaseTtl);
+        if (workerId.isEmpty()) {
+            log.error("SnowflakeIdService::acquire - All {} worker ids are leased", SnowflakeIdGenerator.MAX_MACHINE_ID + 1);
+            return;
+        }
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(workerId.get(), maxClockRollback.toMillis(), System::currentTimeMillis);
+        lease = new Lease(workerId.get(), generator, startedAt + leaseTtl.toNanos());
+        log.info("SnowflakeIdService::acquire - Leased worker {}", workerId.get());
+    }
+
+    private record Lease(int workerId, SnowflakeIdGenerator generator, long validUntilNanos) {
+        private Lease renewed(long validUntilNanos) {
+            return new Lease(workerId, generator, validUntilNanos);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.secure.MsgX.features.utility.conversationUtil;
+
+/**
+ * Position in a conversation: the replySeq of the last reply a client has seen.
+ * Travels as an opaque token signed by {@link ConversationCursorCodec} for one ticket.
+ */
+public record ConversationCursor(long replySeq) {
+}
@@ -0,0 +1,96 @@
+package com.secure.MsgX.features.utility.conversationUtil;
+
+import com.secure.MsgX.core.exceptions.GlobalMsgXExceptions;
+import com.secure.MsgX.features.utility.commonUtil.EnginePool;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Issues and verifies conversation cursors. A token is {@code payload.signature}, where the signature is an
+ * HMAC over the ticketId and the payload keyed by {@code msgx.conversation.cursor.secret}. The ticketId is
+ * only bound into the signature, never written into the token, because it is the sender's management id.
+ * Continuation pages skip view admission, so a cursor the server did not issue for the ticket is rejected.
+ */
+@Slf4j
+@Component
+public class ConversationCursorCodec {
+
+    private static final String SIGNATURE_ALGORITHM = "HmacSHA256";
+    private static final String INVALID_CURSOR = "The conversation cursor is invalid. Use the next_cursor value returned by a previous page.";
+
+    private static final int MAX_IDLE_MACS = 64;
+
+    // Macs keyed once and reused, since getInstance and init cost more than signing a cursor
+    private final EnginePool<Mac> macPool;
+
+    public ConversationCursorCodec(@Value("${msgx.conversation.cursor.secret:}") String secret) {
+        byte[] secretBytes;
+        if (Objects.isNull(secret) || secret.isBlank()) {
+            secretBytes = new byte[32];
+            new SecureRandom().nextBytes(secretBytes);
+            log.warn("ConversationCursorCodec::init - msgx.conversation.cursor.secret is not set; cursors are signed with a "
+                    + "per-process key and will not be accepted by other instances or after a restart");
+        }
+        else {
+            secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        SecretKeySpec key = new SecretKeySpec(secretBytes, SIGNATURE_ALGORITHM);
+        this.macPool = new EnginePool<>(MAX_IDLE_MACS, () -> {
+            Mac mac = Mac.getInstance(SIGNATURE_ALGORITHM);
+            mac.init(key);
+            return mac;
+        });
+    }
+
+    public String encode(String ticketId, ConversationCursor cursor) {
+        byte[] payload = Long.toString(cursor.replySeq()).getBytes(StandardCharsets.UTF_8);
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payload) + "." + encoder.encodeToString(sign(ticketId, payload));
+    }
+
+    /**
+     * @throws GlobalMsgXExceptions when the token is malformed, was altered or was issued for another ticket
+     */
+    public ConversationCursor decode(String ticketId, String token) {
+        try {
+            String[] tokenParts = token.split("\\.", 2);
+            byte[] payload = Base64.getUrlDecoder().decode(tokenParts[0]);
+            byte[] signature = Base64.getUrlDecoder().decode(tokenParts[1]);
+            if (!MessageDigest.isEqual(sign(ticketId, payload), signature)) {
+                log.warn("ConversationCursorCodec::decode - Rejected a cursor not issued for ticket {}", ticketId);
+                throw new GlobalMsgXExceptions(INVALID_CURSOR);
+            }
+
+            return new ConversationCursor(Long.parseLong(new String(payload, StandardCharsets.UTF_8)));
+        }
+        catch (GlobalMsgXExceptions ex) {
+            throw ex;
+        }
+        catch (RuntimeException ex) {
+            throw new GlobalMsgXExceptions(INVALID_CURSOR);
+        }
+    }
+
+    private byte[] sign(String ticketId, byte[] payload) {
+        try {
+            return macPool.execute(mac -> {
+                mac.update(ticketId.getBytes(StandardCharsets.UTF_8));
+                mac.update((byte) 0);
+                return mac.doFinal(payload);
+            });
+        }
+        catch (GeneralSecurityException e) {
+            throw new GlobalMsgXExceptions("Unable to sign conversation cursor: " + e.getMessage(), e);
+        }
+    }
+}
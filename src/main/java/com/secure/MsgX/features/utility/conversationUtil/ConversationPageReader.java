@@ -0,0 +1,86 @@
+package com.secure.MsgX.features.utility.conversationUtil;
+
+import com.secure.MsgX.features.dto.accessConversationDto.ConversationReplyItem;
+import com.secure.MsgX.features.repository.ReplyRepository;
+import com.secure.MsgX.features.repository.ReplyRow;
+import com.secure.MsgX.features.utility.commonUtil.CryptoService;
+import com.secure.MsgX.features.utility.commonUtil.DerivedKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads one page of a conversation by replySeq keyset and decrypts only that page.
+ * The same call serves history paging and "replies since cursor" polling.
+ */
+@Slf4j
+@Component
+public class ConversationPageReader {
+
+    private final ReplyRepository replyRepository;
+    private final CryptoService cryptoService;
+    private final ConversationCursorCodec conversationCursorCodec;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public ConversationPageReader(ReplyRepository replyRepository,
+                                  CryptoService cryptoService,
+                                  ConversationCursorCodec conversationCursorCodec,
+                                  @Value("${msgx.conversation.page.default-size:50}") int defaultPageSize,
+                                  @Value("${msgx.conversation.page.max-size:200}") int maxPageSize) {
+        this.replyRepository = replyRepository;
+        this.cryptoService = cryptoService;
+        this.conversationCursorCodec = conversationCursorCodec;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public record Page(List<ConversationReplyItem> replies, String nextCursor, boolean hasMore) {
+    }
+
+    /**
+     * @param cursor position after which to read, already verified for this ticket; null reads from the start
+     */
+    public Page readPage(String ticketId, ConversationCursor cursor, Integer requestedSize, DerivedKey conversationKey) {
+        int pageSize = Objects.isNull(requestedSize) || requestedSize <= 0
+                ? defaultPageSize
+                : Math.min(requestedSize, maxPageSize);
+
+        // One extra row tells us whether another page follows without a count query
+        List<ReplyRow> rows = readRows(ticketId, cursor, pageSize + 1);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<ReplyRow> pageRows = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<ConversationReplyItem> replies = pageRows.stream()
+                .map(row -> new ConversationReplyItem(
+                        row.replyId(),
+                        row.parentReplyId(),
+                        cryptoService.decryptContent(row.encryptedContent(), row.iv(), conversationKey),
+                        row.createdAt()))
+                .toList();
+
+        // An empty page keeps the caller's position so polling can resume from the same place
+        ConversationCursor next = pageRows.isEmpty()
+                ? cursor
+                : new ConversationCursor(pageRows.getLast().replySeq());
+        String nextCursor = Objects.nonNull(next) ? conversationCursorCodec.encode(ticketId, next) : null;
+
+        log.debug("ConversationPageReader::readPage - Ticket {} page of {} replies, hasMore={}", ticketId, replies.size(), hasMore);
+        return new Page(replies, nextCursor, hasMore);
+    }
+
+    /**
+     * Up to {@code limit} still encrypted rows after {@code cursor} in replySeq order; a null cursor reads from the start.
+     */
+    public List<ReplyRow> readRows(String ticketId, ConversationCursor cursor, int limit) {
+        if (Objects.isNull(cursor)) {
+            return replyRepository.findConversationPage(ticketId, Limit.of(limit));
+        }
+        return replyRepository.findConversationPageAfter(ticketId, cursor.replySeq(), Limit.of(limit));
+    }
+}
@@ -0,0 +1,125 @@
+package com.secure.MsgX.features.utility.conversationUtil;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.secure.MsgX.core.enums.TicketType;
+import com.secure.MsgX.core.exceptions.ErrorInfo;
+import com.secure.MsgX.core.jfr.CryptoEvent;
+import com.secure.MsgX.features.dto.accessConversationDto.ConversationReplyItem;
+import com.secure.MsgX.features.dto.accessConversationDto.ViewConversationResponse;
+import com.secure.MsgX.features.repository.ReplyRow;
+import com.secure.MsgX.features.utility.commonUtil.CryptoService;
+import com.secure.MsgX.features.utility.commonUtil.DerivedKey;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Writes a conversation as NDJSON: one header line (the ticket and its decrypted message) followed by
+ * one line per reply, oldest first. Replies are read in keyset pages, each in its own short read-only transaction,
+ * and decrypted one at a time, so heap use does not grow with the thread and no connection is held while a slow
+ * client reads.
+ */
+@Slf4j
+@Component
+public class ConversationStreamWriter {
+
+    private static final int FLUSH_EVERY = 32;
+
+    private final ConversationPageReader conversationPageReader;
+    private final CryptoService cryptoService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int pageSize;
+
+    public ConversationStreamWriter(ConversationPageReader conversationPageReader,
+                                    CryptoService cryptoService,
+                                    ObjectMapper objectMapper,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${msgx.conversation.stream.page-size:256}") int pageSize) {
+        this.conversationPageReader = conversationPageReader;
+        this.cryptoService = cryptoService;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Access checks and key derivation must already have happened; the returned body only reads and decrypts.
+     */
+    public StreamingResponseBody stream(ViewConversationResponse header, String ticketId, DerivedKey conversationKey) {
+        // The body runs later on an async thread; keep the caller's ticket type for its crypto events
+        TicketType ticketType = CryptoEvent.currentTicketType();
+        return outputStream -> {
+            try (CryptoEvent.TicketTypeScope ticketTypeScope = CryptoEvent.forTicketType(ticketType)) {
+                write(outputStream, header, ticketId, conversationKey);
+            }
+        };
+    }
+
+    private void write(OutputStream outputStream, ViewConversationResponse header, String ticketId,
+                       DerivedKey conversationKey) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        writeLine(generator, header);
+        generator.flush();
+
+        long written = 0;
+        try {
+            written = writeReplies(generator, ticketId, conversationKey);
+        }
+        catch (IOException ex) {
+            // The client went away; nothing more can be written
+            log.info("ConversationStreamWriter::stream - Client disconnected while streaming ticket {}", ticketId);
+            throw ex;
+        }
+        catch (RuntimeException ex) {
+            // Status and headers are already committed, so the failure is reported in-band as a last line
+            log.error("ConversationStreamWriter::stream - Streaming ticket {} failed: {}", ticketId, ex.getMessage());
+            writeLine(generator, new ErrorInfo(null, "GlobalMsgXExceptions",
+                    "The conversation could not be streamed completely. Please retry.", new Date()));
+        }
+        generator.flush();
+        generator.close();
+        log.info("ConversationStreamWriter::stream - Streamed {} replies for ticket {}", written, ticketId);
+    }
+
+    private long writeReplies(JsonGenerator generator, String ticketId, DerivedKey conversationKey) throws IOException {
+        long written = 0;
+        ConversationCursor cursor = null;
+        List<ReplyRow> rows;
+        do {
+            ConversationCursor after = cursor;
+            // The transaction ends, and the connection goes back to the pool, before anything is written to the client
+            rows = readOnlyTransaction.execute(status -> conversationPageReader.readRows(ticketId, after, pageSize));
+            for (ReplyRow row : rows) {
+                writeLine(generator, new ConversationReplyItem(
+                        row.replyId(),
+                        row.parentReplyId(),
+                        cryptoService.decryptContent(row.encryptedContent(), row.iv(), conversationKey),
+                        row.createdAt()));
+                if (++written % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+            if (!rows.isEmpty()) {
+                cursor = new ConversationCursor(rows.getLast().replySeq());
+            }
+        } while (rows.size() == pageSize);
+        return written;
+    }
+
+    private static void writeLine(JsonGenerator generator, Object value) throws IOException {
+        generator.writeObject(value);
+        generator.writeRaw('\n');
+    }
+}
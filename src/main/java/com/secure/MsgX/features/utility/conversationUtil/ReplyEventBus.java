@@ -0,0 +1,260 @@
+package com.secure.MsgX.features.utility.conversationUtil;
+
+import com.secure.MsgX.core.exceptions.GlobalMsgXExceptions;
+import com.secure.MsgX.features.dto.accessConversationDto.ConversationReplyItem;
+import com.secure.MsgX.features.repository.ReplyRow;
+import com.secure.MsgX.features.utility.commonUtil.CryptoService;
+import com.secure.MsgX.features.utility.commonUtil.DerivedKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process fan-out of new replies to SSE subscribers of THREAD/GROUP tickets.
+ * Subscribers are grouped per ticket; each published reply is decrypted once per ticket and queued into every
+ * subscriber's own bounded buffer. A subscriber's buffer is drained by at most one sender thread at a time, so a
+ * slow client only delays itself; one that falls {@code buffer-size} events behind is disconnected and can catch up
+ * via the page endpoint, since each event id is a conversation cursor. Subscriptions are local to this instance.
+ */
+@Slf4j
+@Component
+public class ReplyEventBus {
+
+    private static final String REPLY_EVENT = "reply";
+
+    private final CryptoService cryptoService;
+    private final ConversationCursorCodec conversationCursorCodec;
+    private final Duration timeout;
+    private final int maxPerTicket;
+    private final int bufferSize;
+    // SseEmitter.send is synchronized and blocks on the socket, so senders are platform threads rather than virtual ones
+    private final ExecutorService senders;
+    private final ScheduledExecutorService heartbeats;
+
+    private final Map<String, TicketChannel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Counter droppedSubscribers;
+
+    public ReplyEventBus(CryptoService cryptoService,
+                         ConversationCursorCodec conversationCursorCodec,
+                         @Value("${msgx.subscriptions.timeout:PT30M}") Duration timeout,
+                         @Value("${msgx.subscriptions.max-per-ticket:100}") int maxPerTicket,
+                         @Value("${msgx.subscriptions.buffer-size:64}") int bufferSize,
+                         @Value("${msgx.subscriptions.sender-threads:8}") int senderThreads,
+                         @Value("${msgx.subscriptions.heartbeat-interval:PT20S}") Duration heartbeatInterval,
+                         MeterRegistry meterRegistry) {
+        this.cryptoService = cryptoService;
+        this.conversationCursorCodec = conversationCursorCodec;
+        this.timeout = timeout;
+        this.maxPerTicket = maxPerTicket;
+        this.bufferSize = bufferSize;
+
+        CustomizableThreadFactory senderFactory = new CustomizableThreadFactory("msgx-sse-");
+        senderFactory.setDaemon(true);
+        this.senders = Executors.newFixedThreadPool(senderThreads, senderFactory);
+
+        CustomizableThreadFactory heartbeatFactory = new CustomizableThreadFactory("msgx-sse-heartbeat-");
+        heartbeatFactory.setDaemon(true);
+        this.heartbeats = Executors.newSingleThreadScheduledExecutor(heartbeatFactory);
+        this.heartbeats.scheduleWithFixedDelay(this::heartbeat,
+                heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        Gauge.builder("msgx.subscriptions.active", subscriberCount, AtomicInteger::get)
+                .description("Open reply subscriptions on this instance")
+                .register(meterRegistry);
+        this.droppedSubscribers = Counter.builder("msgx.subscriptions.dropped")
+                .description("Subscribers disconnected because their event buffer was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a subscription. Passkeys must already be validated; the key is kept only while the ticket has subscribers.
+     */
+    public SseEmitter subscribe(String ticketId, DerivedKey conversationKey) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(ticketId, emitter);
+        channels.compute(ticketId, (id, channel) -> {
+            TicketChannel current = Objects.nonNull(channel) ? channel : new TicketChannel(conversationKey);
+            if (current.subscribers.size() >= maxPerTicket) {
+                throw new GlobalMsgXExceptions("This conversation already has the maximum number of live subscribers. " +
+                        "Please use the conversation page endpoint to poll for new replies instead.");
+            }
+            current.subscribers.add(subscriber);
+            return current;
+        });
+        subscriberCount.incrementAndGet();
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(ex -> subscriber.close());
+
+        log.info("ReplyEventBus::subscribe - New subscriber for ticket {}", ticketId);
+        return emitter;
+    }
+
+    /**
+     * Decrypts a newly saved reply once and queues it for every subscriber of the ticket. Never waits on a client.
+     */
+    public void publish(String ticketId, ReplyRow reply) {
+        TicketChannel channel = channels.get(ticketId);
+        if (Objects.isNull(channel) || channel.subscribers.isEmpty()) {
+            return;
+        }
+
+        ConversationReplyItem item;
+        try {
+            item = new ConversationReplyItem(
+                    reply.replyId(),
+                    reply.parentReplyId(),
+                    cryptoService.decryptContent(reply.encryptedContent(), reply.iv(), channel.conversationKey),
+                    reply.createdAt());
+        }
+        catch (RuntimeException ex) {
+            log.error("ReplyEventBus::publish - Could not decrypt reply {} for ticket {}: {}", reply.replyId(), ticketId, ex.getMessage());
+            return;
+        }
+        String eventId = conversationCursorCodec.encode(ticketId, new ConversationCursor(reply.replySeq()));
+        channel.subscribers.forEach(subscriber -> subscriber.offer(SseEmitter.event().id(eventId).name(REPLY_EVENT).data(item)));
+    }
+
+    /**
+     * Ends every subscription of the ticket, e.g. when it is deleted or no longer OPEN.
+     */
+    public void closeTicket(String ticketId) {
+        TicketChannel channel = channels.remove(ticketId);
+        if (Objects.nonNull(channel)) {
+            channel.subscribers.forEach(Subscriber::close);
+            log.info("ReplyEventBus::closeTicket - Closed subscriptions for ticket {}", ticketId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+        channels.keySet().forEach(this::closeTicket);
+        senders.shutdown();
+    }
+
+    /**
+     * Comment-only heartbeat so proxies keep idle connections open and dead or stalled clients are noticed.
+     * Runs on the bus's own thread and only queues, so it never holds up the shared scheduler.
+     */
+    private void heartbeat() {
+        channels.values().forEach(channel -> channel.subscribers.forEach(subscriber ->
+                subscriber.offer(SseEmitter.event().comment("keep-alive"))));
+    }
+
+    private void remove(Subscriber subscriber) {
+        channels.computeIfPresent(subscriber.ticketId, (id, channel) -> {
+            channel.subscribers.remove(subscriber);
+            return channel.subscribers.isEmpty() ? null : channel;
+        });
+        subscriberCount.decrementAndGet();
+    }
+
+    private static final class TicketChannel {
+        private final DerivedKey conversationKey;
+        private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+
+        private TicketChannel(DerivedKey conversationKey) {
+            this.conversationKey = conversationKey;
+        }
+    }
+
+    /**
+     * One client. All emitter calls happen in {@link #drain()}, which runs on one sender thread at a time,
+     * so closing a subscriber never waits on a send that is stuck on the socket.
+     */
+    private final class Subscriber {
+        private final String ticketId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+        private Throwable failure;
+
+        private Subscriber(String ticketId, SseEmitter emitter) {
+            this.ticketId = ticketId;
+            this.emitter = emitter;
+        }
+
+        private void offer(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (!buffer.offer(event)) {
+                droppedSubscribers.increment();
+                log.warn("ReplyEventBus::offer - Subscriber of ticket {} is {} events behind, disconnecting it", ticketId, bufferSize);
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void close() {
+            closed = true;
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while (!closed && Objects.nonNull(event = buffer.poll())) {
+                    emitter.send(event);
+                }
+            }
+            catch (IOException | IllegalStateException ex) {
+                failure = ex;
+                closed = true;
+            }
+            if (closed) {
+                // draining stays set, so nothing is scheduled for this subscriber again
+                finish();
+                return;
+            }
+            draining.set(false);
+            if (closed || !buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void finish() {
+            buffer.clear();
+            remove(this);
+            if (Objects.nonNull(failure)) {
+                emitter.completeWithError(failure);
+            }
+            else {
+                emitter.complete();
+            }
+        }
+    }
+}
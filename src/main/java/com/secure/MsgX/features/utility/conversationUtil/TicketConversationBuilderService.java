@@ -4,18 +4,26 @@ import com.secure.MsgX.core.entity.Reply;
 import com.secure.MsgX.core.entity.Ticket;
 import com.secure.MsgX.core.enums.TicketType;
 import com.secure.MsgX.core.exceptions.GlobalMsgXExceptions;
+import com.secure.MsgX.core.jfr.ConversationTreeEvent;
 import com.secure.MsgX.features.dto.accessConversationDto.ConversationNode;
 import com.secure.MsgX.features.dto.accessConversationDto.ViewConversationResponse;
+import com.secure.MsgX.features.repository.ReplyRepository;
+import com.secure.MsgX.features.repository.ReplyRow;
 import com.secure.MsgX.features.utility.commonUtil.CryptoService;
+import com.secure.MsgX.features.utility.commonUtil.DerivedKey;
 import com.secure.MsgX.features.utility.commonUtil.IpAddressService;
+import com.secure.MsgX.features.utility.commonUtil.SealedEnvelope;
+import com.secure.MsgX.features.utility.commonUtil.SnowflakeIdService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
 
 @Slf4j
 @Service
@@ -23,11 +31,13 @@ import java.util.stream.Collectors;
 public class TicketConversationBuilderService {
 
     private final CryptoService cryptoService;
+    private final SnowflakeIdService snowflakeIdService;
 
-    public Reply buildReplyEntity(String encryptedReply, String iv, Ticket ticket, Reply parentReply, String clientIp) {
+    public Reply buildReplyEntity(SealedEnvelope sealedReply, Ticket ticket, Reply parentReply, String clientIp) {
         Reply reply = new Reply();
-        reply.setEncryptedContent(encryptedReply);
-        reply.setIv(iv);
+        reply.setReplySeq(snowflakeIdService.nextId());
+        reply.setEncryptedContent(sealedReply.cipherText());
+        reply.setIv(sealedReply.iv());
         reply.setTicket(ticket);
         reply.setParentReply(parentReply);
         reply.setReplyIpAddress(IpAddressService.hashIpAddress(clientIp));
@@ -41,32 +51,48 @@ public class TicketConversationBuilderService {
         }
     }
 
-    public List<ConversationNode> buildConversationTree(List<Reply> replies, List<String> passkeyValues, Ticket ticket) {
-        return replies.stream().map(reply -> {
-            ConversationNode node = new ConversationNode();
-            node.setReplyId(reply.getReplyId());
-            node.setCreatedAt(reply.getCreatedAt());
-
-            // Decrypt reply content
-            String decryptedContent = cryptoService.decryptContent(
-                    reply.getEncryptedContent(),
-                    passkeyValues,
-                    ticket.getSalt(),
-                    reply.getIv(),
-                    ticket.getEncryptionAlgo()
-            );
-            node.setDecryptedContent(decryptedContent);
+    /**
+     * Builds the reply tree for a conversation from the flat, oldest-first rows of
+     * {@link ReplyRepository#findConversationRows}. Nodes are indexed by reply id and attached to their
+     * parent in a single pass, so the cost is O(n) regardless of depth. All replies are decrypted with the same
+     * {@link DerivedKey}, so the PBKDF2 cost is paid once per view instead of once per reply.
+     */
+    public List<ConversationNode> buildConversationTree(List<ReplyRow> rows, DerivedKey conversationKey) {
+        ConversationTreeEvent event = new ConversationTreeEvent();
+        event.begin();
 
-            // Recursively build child replies
-            if (!reply.getChildReplies().isEmpty()) {
-                List<Reply> sortedChildren = reply.getChildReplies().stream()
-                        .sorted(Comparator.comparing(Reply::getCreatedAt))
-                        .collect(Collectors.toList());
+        Map<String, ConversationNode> nodesById = new HashMap<>(rows.size() * 2);
+        long payloadSize = 0;
+        for (ReplyRow row : rows) {
+            ConversationNode node = new ConversationNode();
+            node.setReplyId(row.replyId());
+            node.setCreatedAt(row.createdAt());
+            node.setDecryptedContent(cryptoService.decryptContent(row.encryptedContent(), row.iv(), conversationKey));
+            nodesById.put(row.replyId(), node);
+            payloadSize += row.encryptedContent().length();
+        }
 
-                node.setReplies(buildConversationTree(sortedChildren, passkeyValues, ticket));
+        // Rows are in creation order, so appending keeps every sibling list sorted
+        List<ConversationNode> topLevel = new ArrayList<>();
+        for (ReplyRow row : rows) {
+            ConversationNode node = nodesById.get(row.replyId());
+            ConversationNode parent = Objects.isNull(row.parentReplyId()) ? null : nodesById.get(row.parentReplyId());
+            if (Objects.nonNull(parent)) {
+                parent.getReplies().add(node);
             }
-            return node;
-        }).collect(Collectors.toList());
+            else {
+                topLevel.add(node);
+            }
+        }
+
+        if (event.shouldCommit()) {
+            event.encryptionAlgo = conversationKey.algorithm().name();
+            event.replyCount = rows.size();
+            event.topLevelCount = topLevel.size();
+            event.payloadSize = payloadSize;
+            event.commit();
+        }
+        return topLevel;
     }
 
     public ViewConversationResponse buildResponse(Ticket ticket, String decryptedContent, List<ConversationNode> conversation) {
@@ -0,0 +1,156 @@
+package com.secure.MsgX.features.utility.expiryUtil;
+
+import com.secure.MsgX.core.enums.TicketStatus;
+import com.secure.MsgX.features.repository.TicketSweepRepository;
+import com.secure.MsgX.features.utility.accessUtil.ViewAdmissionService;
+import com.secure.MsgX.features.utility.commonUtil.DerivedKeyCache;
+import com.secure.MsgX.features.utility.conversationUtil.ReplyEventBus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Background counterpart of the lazy checks in TicketViewBuilderService::validateAccessWindow.
+ * Each run moves OPEN tickets past expires_at or open_until to EXPIRED, then deletes tickets that have been in a
+ * purgeable status for longer than the retention period, together with their passkeys, replies and read logs.
+ * Purging is irreversible and therefore off unless {@code msgx.expiry.purge.enabled} is set.
+ * Work is done in batches of {@code batch-size} rows, each its own short transaction, and a run stops after
+ * {@code max-batches-per-run} batches so a large backlog is worked off over several runs.
+ * Safe to run on every replica: batches are claimed with SKIP LOCKED.
+ */
+@Slf4j
+@Component
+public class TicketExpirySweeper {
+
+    private static final int BACKLOG_CAP = 100_000;
+
+    private final TicketSweepRepository ticketSweepRepository;
+    private final DerivedKeyCache derivedKeyCache;
+    private final ViewAdmissionService viewAdmissionService;
+    private final ReplyEventBus replyEventBus;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final boolean purgeEnabled;
+    private final Duration purgeAfter;
+    private final Set<TicketStatus> purgeStatuses;
+
+    private final Counter expiredTickets;
+    private final Counter purgedTickets;
+    private final Timer sweepTimer;
+    private final AtomicLong expiryBacklog = new AtomicLong();
+    private final AtomicLong purgeBacklog = new AtomicLong();
+
+    public TicketExpirySweeper(TicketSweepRepository ticketSweepRepository,
+                               DerivedKeyCache derivedKeyCache,
+                               ViewAdmissionService viewAdmissionService,
+                               ReplyEventBus replyEventBus,
+                               @Value("${msgx.expiry.sweeper.enabled:true}") boolean enabled,
+                               @Value("${msgx.expiry.sweeper.batch-size:500}") int batchSize,
+                               @Value("${msgx.expiry.sweeper.max-batches-per-run:20}") int maxBatchesPerRun,
+                               @Value("${msgx.expiry.purge.enabled:false}") boolean purgeEnabled,
+                               @Value("${msgx.expiry.purge.after:P7D}") Duration purgeAfter,
+                               @Value("${msgx.expiry.purge.statuses:EXPIRED,VIEW_LIMIT_REACHED,CLOSED}") Set<TicketStatus> purgeStatuses,
+                               MeterRegistry meterRegistry) {
+        this.ticketSweepRepository = ticketSweepRepository;
+        this.derivedKeyCache = derivedKeyCache;
+        this.viewAdmissionService = viewAdmissionService;
+        this.replyEventBus = replyEventBus;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.purgeEnabled = purgeEnabled;
+        this.purgeAfter = purgeAfter;
+        this.purgeStatuses = purgeStatuses;
+
+        this.expiredTickets = Counter.builder("msgx.expiry.tickets")
+                .tag("action", "expired")
+                .description("OPEN tickets moved to EXPIRED by the sweeper")
+                .register(meterRegistry);
+        this.purgedTickets = Counter.builder("msgx.expiry.tickets")
+                .tag("action", "purged")
+                .description("Tickets deleted with their passkeys, replies and read logs by the sweeper")
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("msgx.expiry.sweep")
+                .description("Duration of one sweeper run")
+                .register(meterRegistry);
+        Gauge.builder("msgx.expiry.backlog", expiryBacklog, AtomicLong::get)
+                .tag("action", "expire")
+                .description("OPEN tickets past their expiry left after the last run (capped at " + BACKLOG_CAP + ")")
+                .register(meterRegistry);
+        Gauge.builder("msgx.expiry.backlog", purgeBacklog, AtomicLong::get)
+                .tag("action", "purge")
+                .description("Purgeable tickets left after the last run (capped at " + BACKLOG_CAP + ")")
+                .register(meterRegistry);
+
+        log.info("TicketExpirySweeper::init - enabled={}, batchSize={}, purgeEnabled={}, purgeAfter={}, purgeStatuses={}",
+                enabled, batchSize, purgeEnabled, purgeAfter, purgeStatuses);
+    }
+
+    @Scheduled(fixedDelayString = "${msgx.expiry.sweeper.interval:PT1M}")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+        sweepTimer.record(() -> {
+            try {
+                int expired = drain(ticketSweepRepository::expirePastExpiresAt, this::afterExpiry)
+                        + drain(ticketSweepRepository::expirePastOpenUntil, this::afterExpiry);
+                expiredTickets.increment(expired);
+                expiryBacklog.set(ticketSweepRepository.countDueForExpiry(BACKLOG_CAP));
+
+                int purged = 0;
+                if (purgeEnabled) {
+                    Instant cutoff = Instant.now().minus(purgeAfter);
+                    purged = drain(limit -> ticketSweepRepository.purge(purgeStatuses, cutoff, limit), this::afterPurge);
+                    purgedTickets.increment(purged);
+                    purgeBacklog.set(ticketSweepRepository.countPurgeable(purgeStatuses, cutoff, BACKLOG_CAP));
+                }
+
+                if (expired > 0 || purged > 0) {
+                    log.info("TicketExpirySweeper::sweep - Expired {} and purged {} tickets", expired, purged);
+                }
+            }
+            catch (DataAccessException ex) {
+                log.warn("TicketExpirySweeper::sweep - Sweep failed, retrying on the next run: {}", ex.getMessage());
+            }
+        });
+    }
+
+    private int drain(IntFunction<List<String>> batch, Consumer<String> afterEach) {
+        int total = 0;
+        for (int run = 0; run < maxBatchesPerRun; run++) {
+            List<String> ticketIds = batch.apply(batchSize);
+            ticketIds.forEach(afterEach);
+            total += ticketIds.size();
+            if (ticketIds.size() < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private void afterExpiry(String ticketId) {
+        derivedKeyCache.evictTicket(ticketId);
+        replyEventBus.closeTicket(ticketId);
+    }
+
+    private void afterPurge(String ticketId) {
+        afterExpiry(ticketId);
+        viewAdmissionService.release(ticketId);
+    }
+}
@@ -0,0 +1,200 @@
+package com.secure.MsgX.features.utility.ticketCreateUtil;
+
+import com.secure.MsgX.core.entity.Passkey;
+import com.secure.MsgX.core.entity.Ticket;
+import com.secure.MsgX.core.entity.id.TimeOrderedUuidGenerator;
+import com.secure.MsgX.core.enums.CryptoOperation;
+import com.secure.MsgX.core.exceptions.GlobalMsgXExceptions;
+import com.secure.MsgX.core.jfr.CryptoEvent;
+import com.secure.MsgX.features.dto.ticketCreateDto.BatchTicketItemResult;
+import com.secure.MsgX.features.dto.ticketCreateDto.TicketCreationRequest;
+import com.secure.MsgX.features.repository.TicketBatchRepository;
+import com.secure.MsgX.features.utility.commonUtil.CryptoService;
+import com.secure.MsgX.features.utility.commonUtil.CryptoWorkScheduler;
+import com.secure.MsgX.features.utility.commonUtil.SealedEnvelope;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Creates many tickets in one call. Items are processed in chunks: every item of a chunk is validated,
+ * its encryption and passkey hashes are queued on the crypto executor together, and the finished tickets
+ * and passkeys are written with one JDBC batch per table. Failures are reported per item.
+ */
+@Slf4j
+@Service
+public class BatchTicketCreationService {
+
+    private final TicketCreationRequestValidator ticketCreationRequestValidator;
+    private final TicketBuilderService ticketBuilderService;
+    private final CryptoService cryptoService;
+    private final CryptoWorkScheduler cryptoWorkScheduler;
+    private final TicketBatchRepository ticketBatchRepository;
+    private final int maxItems;
+    private final int chunkSize;
+
+    public BatchTicketCreationService(TicketCreationRequestValidator ticketCreationRequestValidator,
+                                      TicketBuilderService ticketBuilderService,
+                                      CryptoService cryptoService,
+                                      CryptoWorkScheduler cryptoWorkScheduler,
+                                      TicketBatchRepository ticketBatchRepository,
+                                      @Value("${msgx.tickets.batch.max-items:1000}") int maxItems,
+                                      @Value("${msgx.tickets.batch.chunk-size:16}") int chunkSize) {
+        this.ticketCreationRequestValidator = ticketCreationRequestValidator;
+        this.ticketBuilderService = ticketBuilderService;
+        this.cryptoService = cryptoService;
+        this.cryptoWorkScheduler = cryptoWorkScheduler;
+        this.ticketBatchRepository = ticketBatchRepository;
+        this.maxItems = maxItems;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @return one result per request item, in request order
+     */
+    public List<BatchTicketItemResult> createTickets(List<TicketCreationRequest> requests, String hashIpAddress) {
+        if (Objects.isNull(requests) || requests.isEmpty()) {
+            throw new GlobalMsgXExceptions("BatchTicketCreationService::createTickets failed - At least one ticket is required");
+        }
+        if (requests.size() > maxItems) {
+            throw new GlobalMsgXExceptions("BatchTicketCreationService::createTickets failed - No more than " + maxItems + " tickets are allowed per batch");
+        }
+
+        BatchTicketItemResult[] results = new BatchTicketItemResult[requests.size()];
+        for (int start = 0; start < requests.size(); start += chunkSize) {
+            int end = Math.min(start + chunkSize, requests.size());
+            List<PendingTicket> pending = prepareChunk(requests, start, end, hashIpAddress, results);
+            List<PendingTicket> ready = awaitCrypto(pending, results);
+            persist(ready, results);
+        }
+
+        long created = Arrays.stream(results).filter(result -> BatchTicketItemResult.CREATED.equals(result.getStatus())).count();
+        log.info("BatchTicketCreationService::createTickets - Created {} of {} tickets", created, requests.size());
+        return Arrays.asList(results);
+    }
+
+    private List<PendingTicket> prepareChunk(List<TicketCreationRequest> requests, int start, int end,
+                                             String hashIpAddress, BatchTicketItemResult[] results) {
+        List<PendingTicket> pending = new ArrayList<>(end - start);
+        for (int index = start; index < end; index++) {
+            TicketCreationRequest request = requests.get(index);
+            PendingTicket item = null;
+            try {
+                ticketCreationRequestValidator.validateRequest(request);
+
+                Ticket ticket = new Ticket();
+                ticketBuilderService.configureTicketEntity(request, ticket, hashIpAddress);
+
+                item = new PendingTicket(index, request, ticket);
+                try (CryptoEvent.TicketTypeScope ticketTypeScope = CryptoEvent.forTicketType(request.getTicketType())) {
+                    item.envelope = cryptoWorkScheduler.submit(CryptoOperation.ENCRYPT, () -> cryptoService.encryptContent(
+                            request.getMessageContent(), request.getPasskeys(), ticket.getSalt(), request.getEncryptionAlgo()));
+                    for (String passkey : request.getPasskeys()) {
+                        item.hashes.add(cryptoWorkScheduler.submit(CryptoOperation.PASSKEY_HASH, () -> cryptoService.hashPasskey(passkey)));
+                    }
+                }
+                pending.add(item);
+            }
+            catch (RuntimeException ex) {
+                if (Objects.nonNull(item)) {
+                    item.cancel();
+                }
+                results[index] = BatchTicketItemResult.failed(index, ex.getMessage());
+            }
+        }
+        return pending;
+    }
+
+    private List<PendingTicket> awaitCrypto(List<PendingTicket> pending, BatchTicketItemResult[] results) {
+        List<PendingTicket> ready = new ArrayList<>(pending.size());
+        for (PendingTicket item : pending) {
+            try {
+                SealedEnvelope envelope = cryptoWorkScheduler.await(CryptoOperation.ENCRYPT, item.envelope);
+                item.ticket.setEncryptedMessage(envelope.cipherText());
+                item.ticket.setIv(envelope.iv());
+
+                List<Passkey> passkeys = new ArrayList<>(item.hashes.size());
+                for (int order = 0; order < item.hashes.size(); order++) {
+                    Passkey passkey = new Passkey();
+                    passkey.setPasskeyId(TimeOrderedUuidGenerator.next());
+                    passkey.setPasskeyHash(cryptoWorkScheduler.await(CryptoOperation.PASSKEY_HASH, item.hashes.get(order)));
+                    passkey.setKeyOrder(order + 1);
+                    passkey.setTicket(item.ticket);
+                    passkeys.add(passkey);
+                }
+                item.ticket.setPasskeys(passkeys);
+                ready.add(item);
+            }
+            catch (RuntimeException ex) {
+                item.cancel();
+                results[item.index] = BatchTicketItemResult.failed(item.index, ex.getMessage());
+            }
+        }
+        return ready;
+    }
+
+    private void persist(List<PendingTicket> ready, BatchTicketItemResult[] results) {
+        if (ready.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        for (PendingTicket item : ready) {
+            item.ticket.setTicketId(UUID.randomUUID().toString());
+            item.ticket.setCreatedAt(now);
+            item.ticket.setUpdatedAt(now);
+        }
+
+        try {
+            ticketBatchRepository.insertAll(ready.stream().map(item -> item.ticket).toList());
+            ready.forEach(item -> markCreated(item, results));
+        }
+        catch (DataAccessException ex) {
+            // One bad row fails the whole batch; retry item by item so only the offending tickets fail
+            log.warn("BatchTicketCreationService::persist - Batch insert of {} tickets failed, retrying individually: {}", ready.size(), ex.getMessage());
+            for (PendingTicket item : ready) {
+                try {
+                    ticketBatchRepository.insertAll(List.of(item.ticket));
+                    markCreated(item, results);
+                }
+                catch (DataAccessException itemEx) {
+                    results[item.index] = BatchTicketItemResult.failed(item.index, "Failed to store ticket: " + itemEx.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private void markCreated(PendingTicket item, BatchTicketItemResult[] results) {
+        results[item.index] = BatchTicketItemResult.created(item.index,
+                ticketBuilderService.buildCreationResponse(item.ticket, item.request.getPasskeys()));
+    }
+
+    private static final class PendingTicket {
+        private final int index;
+        private final TicketCreationRequest request;
+        private final Ticket ticket;
+        private CompletableFuture<SealedEnvelope> envelope;
+        private final List<CompletableFuture<String>> hashes = new ArrayList<>();
+
+        private PendingTicket(int index, TicketCreationRequest request, Ticket ticket) {
+            this.index = index;
+            this.request = request;
+            this.ticket = ticket;
+        }
+
+        private void cancel() {
+            if (Objects.nonNull(envelope)) {
+                envelope.cancel(true);
+            }
+            hashes.forEach(hash -> hash.cancel(true));
+        }
+    }
+}
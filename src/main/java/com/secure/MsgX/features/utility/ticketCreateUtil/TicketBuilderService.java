@@ -2,20 +2,28 @@ package com.secure.MsgX.features.utility.ticketCreateUtil;
 
 import com.secure.MsgX.core.entity.Passkey;
 import com.secure.MsgX.core.entity.Ticket;
+import com.secure.MsgX.core.enums.CryptoOperation;
+import com.secure.MsgX.core.enums.PipelineStage;
+import com.secure.MsgX.core.enums.TicketPipeline;
 import com.secure.MsgX.core.enums.TicketStatus;
 import com.secure.MsgX.core.enums.TicketType;
+import com.secure.MsgX.core.exceptions.CryptoCapacityExceededException;
 import com.secure.MsgX.core.exceptions.GlobalMsgXExceptions;
 import com.secure.MsgX.features.dto.ticketCreateDto.PasskeyDto;
 import com.secure.MsgX.features.dto.ticketCreateDto.TicketCreationRequest;
 import com.secure.MsgX.features.dto.ticketCreateDto.TicketCreationResponse;
-import com.secure.MsgX.features.repository.PasskeyRepository;
 import com.secure.MsgX.features.utility.commonUtil.CryptoService;
+import com.secure.MsgX.features.utility.commonUtil.CryptoWorkScheduler;
 import com.secure.MsgX.features.utility.commonUtil.IpAddressService;
+import com.secure.MsgX.features.utility.commonUtil.PipelineStageMetrics;
+import com.secure.MsgX.features.utility.commonUtil.SealedEnvelope;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.IntStream;
 
 @Slf4j
@@ -23,8 +31,9 @@ import java.util.stream.IntStream;
 @RequiredArgsConstructor
 public class TicketBuilderService {
 
-    private final PasskeyRepository passkeyRepository;
     private final CryptoService cryptoService;
+    private final CryptoWorkScheduler cryptoWorkScheduler;
+    private final PipelineStageMetrics pipelineStageMetrics;
 
     public void configureTicketEntity(TicketCreationRequest request, Ticket ticket, String hashIpAddress) {
         String ticketPrefix = getTicketTypePrefix(request.getTicketType());
@@ -58,35 +67,55 @@ public class TicketBuilderService {
 
     public void encryptMessageContent(TicketCreationRequest request, Ticket ticket) {
         try {
-            // CHANGED: Now returns Base64 string
-            String encryptedContent = cryptoService.encryptContent(
+            SealedEnvelope envelope = cryptoWorkScheduler.call(CryptoOperation.ENCRYPT, () -> cryptoService.encryptContent(
                     request.getMessageContent(),
                     request.getPasskeys(),
                     ticket.getSalt(),
                     request.getEncryptionAlgo()
-            );
-            ticket.setEncryptedMessage(encryptedContent);
-            // CHANGED: Store IV as Base64 string
-            ticket.setIv(cryptoService.getLastGeneratedIVAsBase64());
+            ));
+            ticket.setEncryptedMessage(envelope.cipherText());
+            ticket.setIv(envelope.iv());
+        }
+        catch (CryptoCapacityExceededException ex) {
+            throw ex;
         }
         catch (GlobalMsgXExceptions ex) {
             throw new GlobalMsgXExceptions("Encryption failed during ticket creation", ex);
         }
     }
 
-    public void savePasskeys(List<String> passkeys, Ticket ticket) {
-        List<Passkey> passkeyEntities = IntStream.range(0, passkeys.size())
-                .mapToObj(i -> {
-                    Passkey passkey = new Passkey();
-                    passkey.setPasskeyHash(cryptoService.hashPasskey(passkeys.get(i)));
-                    passkey.setKeyOrder(i + 1);
-                    passkey.setTicket(ticket);
-                    return passkey;
-                })
+    /**
+     * Hashes the passkeys and attaches them to the unsaved ticket, so saving the ticket stores both in one
+     * transaction. Runs before anything is written, so a rejected or timed-out hash leaves nothing behind.
+     */
+    public void attachPasskeys(List<String> passkeys, Ticket ticket) {
+        List<Passkey> passkeyEntities = pipelineStageMetrics.time(TicketPipeline.CREATE, PipelineStage.HASH_PASSKEYS, ticket,
+                () -> hashPasskeys(passkeys, ticket));
+        ticket.setPasskeys(passkeyEntities);
+        log.info("Hashed {} passkeys for ticket {}", passkeys.size(), ticket.getTicketNumber());
+    }
+
+    private List<Passkey> hashPasskeys(List<String> passkeys, Ticket ticket) {
+        // Argon2 hashes are independent, so all of them are queued before waiting on the first
+        List<CompletableFuture<String>> hashes = passkeys.stream()
+                .map(passkey -> cryptoWorkScheduler.submit(CryptoOperation.PASSKEY_HASH, () -> cryptoService.hashPasskey(passkey)))
                 .toList();
 
-        passkeyRepository.saveAll(passkeyEntities);
-        log.info("Saved {} passkeys for ticket {}", passkeys.size(), ticket.getTicketId());
+        List<Passkey> passkeyEntities = new ArrayList<>(passkeys.size());
+        try {
+            for (int i = 0; i < passkeys.size(); i++) {
+                Passkey passkey = new Passkey();
+                passkey.setPasskeyHash(cryptoWorkScheduler.await(CryptoOperation.PASSKEY_HASH, hashes.get(i)));
+                passkey.setKeyOrder(i + 1);
+                passkey.setTicket(ticket);
+                passkeyEntities.add(passkey);
+            }
+        }
+        catch (RuntimeException ex) {
+            hashes.forEach(hash -> hash.cancel(true));
+            throw ex;
+        }
+        return passkeyEntities;
     }
 
     public TicketCreationResponse buildCreationResponse(Ticket ticket, List<String> originalPasskeys) {
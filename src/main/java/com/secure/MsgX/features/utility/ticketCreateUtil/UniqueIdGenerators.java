@@ -1,75 +1,184 @@
 package com.secure.MsgX.features.utility.ticketCreateUtil;
 
+import java.nio.ByteBuffer;
+import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
-
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
 
 public class UniqueIdGenerators {
 
     // Snowflake ID Generator
+    /**
+     * 64-bit ids: 41 bits of milliseconds since {@link #EPOCH}, 10 bits of machine id, 12 bits of sequence.
+     * Lock-free: the last (timestamp, sequence) pair lives in one AtomicLong. When a millisecond's 4096 ids
+     * are used up, or the clock steps back, ids continue on a logical clock ahead of the wall clock and the
+     * caller parks until the wall clock catches up, so no id is returned before its own timestamp.
+     * A rollback larger than {@code maxRollbackMillis} is refused with an IllegalStateException.
+     */
     public static class SnowflakeIdGenerator {
         private static final long EPOCH = 1609459200000L; // Custom epoch (e.g., 01-Jan-2021)
         private static final long SEQUENCE_BITS = 12L;
         private static final long MACHINE_ID_BITS = 10L;
-        private static final long MAX_MACHINE_ID = ~(-1L << MACHINE_ID_BITS);
-        private static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);
+        public static final long MAX_MACHINE_ID = ~(-1L << MACHINE_ID_BITS);
 
-        private long machineId;
-        private long sequence = 0L;
-        private long lastTimestamp = -1L;
+        private final long machineId;
+        private final long maxRollbackMillis;
+        private final LongSupplier clock;
+        private final AtomicLong lastTick = new AtomicLong(); // (timestamp << SEQUENCE_BITS) | sequence
 
         public SnowflakeIdGenerator(long machineId) {
+            this(machineId, 1000L, System::currentTimeMillis);
+        }
+
+        public SnowflakeIdGenerator(long machineId, long maxRollbackMillis, LongSupplier clock) {
             if (machineId < 0 || machineId > MAX_MACHINE_ID) {
                 throw new IllegalArgumentException("Machine ID must be between 0 and " + MAX_MACHINE_ID);
             }
             this.machineId = machineId;
+            this.maxRollbackMillis = maxRollbackMillis;
+            this.clock = clock;
         }
 
-        public synchronized long generateId() {
-            long timestamp = System.currentTimeMillis() - EPOCH;
+        public long generateId() {
+            long now = clock.getAsLong() - EPOCH;
+            long tick = lastTick.updateAndGet(last -> Math.max(last + 1, now << SEQUENCE_BITS));
+            long timestamp = tick >>> SEQUENCE_BITS;
 
-            if (timestamp == lastTimestamp) {
-                sequence = (sequence + 1) & SEQUENCE_MASK;
-                if (sequence == 0) {
-                    timestamp = waitForNextMillis(lastTimestamp);
-                }
-            } else {
-                sequence = 0;
+            long ahead = timestamp - now;
+            if (ahead > maxRollbackMillis) {
+                throw new IllegalStateException("Clock moved backwards by " + ahead + " ms");
             }
+            if (ahead > 0) {
+                waitUntil(timestamp);
+            }
+            return (timestamp << (MACHINE_ID_BITS + SEQUENCE_BITS)) | (machineId << SEQUENCE_BITS) | (tick & ~(-1L << SEQUENCE_BITS));
+        }
 
-            lastTimestamp = timestamp;
-
-            return (timestamp << (MACHINE_ID_BITS + SEQUENCE_BITS)) | (machineId << SEQUENCE_BITS) | sequence;
+        public long getMachineId() {
+            return machineId;
         }
 
-        private long waitForNextMillis(long lastTimestamp) {
-            long timestamp;
-            do {
-                timestamp = System.currentTimeMillis() - EPOCH;
-            } while (timestamp <= lastTimestamp);
-            return timestamp;
+        private void waitUntil(long timestamp) {
+            long remaining;
+            while ((remaining = timestamp - (clock.getAsLong() - EPOCH)) > 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(remaining));
+            }
         }
     }
 
     // ULID Generator
+    /**
+     * Monotonic ULID (https://github.com/ulid/spec): 48-bit Unix milliseconds followed by 80 random bits,
+     * as 26 Crockford Base32 characters. Ids from this process are strictly increasing. Within one millisecond
+     * the random part grows by a random step of 1..2^32 instead of by one, so a ticket number does not reveal
+     * its neighbours. The last id is published through a CAS, and randomness comes from striped DRBG buffers
+     * refilled 512 bytes at a time, so callers rarely touch the SecureRandom itself and do not queue on one instance.
+     */
     public static class UlidGenerator {
-        private static final long EPOCH = 0L; // Start timestamp (can use custom epoch)
+        private static final char[] CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+        private static final int LENGTH = 26;
+        private static final long RANDOM_HIGH_MASK = 0xFFFFL;
+
+        private static final EntropyStripe[] ENTROPY = newEntropyStripes();
+        private static final AtomicReference<UlidState> LAST = new AtomicReference<>(new UlidState(0L, 0L, 0L));
 
         public static String generateUlid() {
-            long timestamp = System.currentTimeMillis() - EPOCH;
-            byte[] randomBytes = new byte[10];
-            new SecureRandom().nextBytes(randomBytes);
+            long now = System.currentTimeMillis();
+            EntropyStripe entropy = ENTROPY[(int) Thread.currentThread().threadId() & (ENTROPY.length - 1)];
+            long freshLow;
+            long extra;
+            synchronized (entropy) {
+                freshLow = entropy.nextLong();
+                extra = entropy.nextLong();
+            }
+            long freshHigh = extra & RANDOM_HIGH_MASK;
+            long step = ((extra >>> 16) & 0xFFFFFFFFL) + 1;
+
+            UlidState previous;
+            UlidState next;
+            do {
+                previous = LAST.get();
+                if (now > previous.millis) {
+                    next = new UlidState(now, freshHigh, freshLow);
+                }
+                else {
+                    // Same millisecond, or the clock moved back: stay on the last timestamp and step the random part
+                    long low = previous.low + step;
+                    long high = previous.high + (Long.compareUnsigned(low, previous.low) < 0 ? 1 : 0);
+                    next = high > RANDOM_HIGH_MASK
+                            ? new UlidState(previous.millis + 1, freshHigh, freshLow)
+                            : new UlidState(previous.millis, high, low);
+                }
+            } while (!LAST.compareAndSet(previous, next));
 
-            // Combine the timestamp and random part
-            return String.format("%016x", timestamp) + bytesToHex(randomBytes);
+            return encode(next.millis, next.high, next.low);
         }
 
-        private static String bytesToHex(byte[] bytes) {
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : bytes) {
-                hexString.append(String.format("%02x", b));
+        static String encode(long millis, long randomHigh, long randomLow) {
+            char[] chars = new char[LENGTH];
+            // 10 characters of timestamp (50 bits, the top two always zero)
+            for (int i = 0; i < 10; i++) {
+                chars[9 - i] = CROCKFORD[(int) (millis >>> (5 * i)) & 31];
             }
-            return hexString.toString();
+            // 16 characters of randomness: bits 0-63 from randomLow, 64-79 from randomHigh
+            for (int i = 0; i < 16; i++) {
+                int shift = 5 * i;
+                long bits;
+                if (shift + 5 <= 64) {
+                    bits = randomLow >>> shift;
+                }
+                else if (shift >= 64) {
+                    bits = randomHigh >>> (shift - 64);
+                }
+                else {
+                    bits = (randomLow >>> shift) | (randomHigh << (64 - shift));
+                }
+                chars[25 - i] = CROCKFORD[(int) bits & 31];
+            }
+            return new String(chars);
+        }
+
+        private static EntropyStripe[] newEntropyStripes() {
+            int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2 - 1) << 1;
+            EntropyStripe[] entropy = new EntropyStripe[stripes];
+            for (int i = 0; i < stripes; i++) {
+                entropy[i] = new EntropyStripe();
+            }
+            return entropy;
+        }
+
+        private static final class EntropyStripe {
+            private final SecureRandom random = newSecureRandom();
+            private final byte[] buffer = new byte[512];
+            private final ByteBuffer view = ByteBuffer.wrap(buffer);
+            private int position = buffer.length;
+
+            private long nextLong() {
+                if (position == buffer.length) {
+                    random.nextBytes(buffer);
+                    position = 0;
+                }
+                long value = view.getLong(position);
+                position += Long.BYTES;
+                return value;
+            }
+
+            private static SecureRandom newSecureRandom() {
+                try {
+                    return SecureRandom.getInstance("DRBG");
+                }
+                catch (NoSuchAlgorithmException ex) {
+                    return new SecureRandom();
+                }
+            }
+        }
+
+        private record UlidState(long millis, long high, long low) {
         }
     }
 
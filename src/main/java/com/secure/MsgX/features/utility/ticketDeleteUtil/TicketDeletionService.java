@@ -0,0 +1,74 @@
+package com.secure.MsgX.features.utility.ticketDeleteUtil;
+
+import com.secure.MsgX.core.entity.id.UuidStringType;
+import com.secure.MsgX.core.exceptions.GlobalMsgXExceptions;
+import com.secure.MsgX.features.repository.DeletedTicket;
+import com.secure.MsgX.features.repository.TicketDeletionRepository;
+import com.secure.MsgX.features.utility.accessUtil.ViewAdmissionService;
+import com.secure.MsgX.features.utility.commonUtil.DerivedKeyCache;
+import com.secure.MsgX.features.utility.conversationUtil.ReplyEventBus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Permanently deletes tickets with set-based statements (see TicketDeletionRepository) and drops everything
+ * this instance still holds for them: derived keys, view reservations and live subscriptions.
+ */
+@Slf4j
+@Service
+public class TicketDeletionService {
+
+    private final TicketDeletionRepository ticketDeletionRepository;
+    private final DerivedKeyCache derivedKeyCache;
+    private final ViewAdmissionService viewAdmissionService;
+    private final ReplyEventBus replyEventBus;
+    private final int maxItems;
+
+    public TicketDeletionService(TicketDeletionRepository ticketDeletionRepository,
+                                 DerivedKeyCache derivedKeyCache,
+                                 ViewAdmissionService viewAdmissionService,
+                                 ReplyEventBus replyEventBus,
+                                 @Value("${msgx.tickets.bulk-delete.max-items:1000}") int maxItems) {
+        this.ticketDeletionRepository = ticketDeletionRepository;
+        this.derivedKeyCache = derivedKeyCache;
+        this.viewAdmissionService = viewAdmissionService;
+        this.replyEventBus = replyEventBus;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * Deletes the given tickets in one statement. Duplicates, malformed and unknown ids are skipped.
+     *
+     * @return the tickets that were actually deleted
+     */
+    public List<DeletedTicket> deleteTickets(List<String> ticketIds) {
+        if (Objects.isNull(ticketIds) || ticketIds.isEmpty()) {
+            throw new GlobalMsgXExceptions("TicketDeletionService::deleteTickets failed - At least one ticket ID is required");
+        }
+        if (ticketIds.size() > maxItems) {
+            throw new GlobalMsgXExceptions("TicketDeletionService::deleteTickets failed - No more than " + maxItems + " tickets can be deleted per request");
+        }
+
+        Set<String> validIds = new LinkedHashSet<>();
+        for (String ticketId : ticketIds) {
+            if (UuidStringType.isUuid(ticketId)) {
+                validIds.add(ticketId);
+            }
+        }
+
+        List<DeletedTicket> deleted = ticketDeletionRepository.deleteByIds(validIds);
+        for (DeletedTicket ticket : deleted) {
+            derivedKeyCache.evictTicket(ticket.ticketId());
+            viewAdmissionService.release(ticket.ticketId());
+            replyEventBus.closeTicket(ticket.ticketId());
+        }
+        log.info("TicketDeletionService::deleteTickets - Deleted {} of {} requested tickets", deleted.size(), ticketIds.size());
+        return deleted;
+    }
+}
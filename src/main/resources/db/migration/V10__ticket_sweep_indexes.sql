@@ -0,0 +1,4 @@
+-- ix_ticket_status_expiry only serves the expires_at lookup; the sweeper also filters OPEN tickets on open_until
+-- and purgeable tickets on updated_at, which would otherwise scan every ticket of that status
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_ticket_status_open_until ON ticket (ticket_status, open_until);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_ticket_status_updated ON ticket (ticket_status, updated_at);
@@ -0,0 +1,55 @@
+-- Schema as previously generated by hibernate.ddl-auto=update.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate) and skip this script.
+
+CREATE TABLE IF NOT EXISTS ticket (
+    ticket_id           VARCHAR(255) NOT NULL PRIMARY KEY,
+    ticket_number       VARCHAR(255),
+    created_at          TIMESTAMP(6) WITH TIME ZONE,
+    updated_at          TIMESTAMP(6) WITH TIME ZONE,
+    expires_at          TIMESTAMP(6) WITH TIME ZONE,
+    open_from           TIMESTAMP(6) WITH TIME ZONE,
+    open_until          TIMESTAMP(6) WITH TIME ZONE,
+    creator_ip_address  VARCHAR(255),
+    ticket_status       VARCHAR(255),
+    encryption_algo     VARCHAR(255),
+    ticket_type         VARCHAR(255),
+    max_views           BIGINT,
+    count_views         BIGINT,
+    encrypted_message   TEXT,
+    salt                VARCHAR(255),
+    allow_replies       BOOLEAN NOT NULL,
+    initialization_vector TEXT,
+    parent_ticket_id    VARCHAR(255) REFERENCES ticket (ticket_id)
+);
+
+CREATE TABLE IF NOT EXISTS passkey (
+    passkey_id   VARCHAR(255) NOT NULL PRIMARY KEY,
+    passkey_hash VARCHAR(255),
+    key_order    INTEGER,
+    ticket_id    VARCHAR(255) NOT NULL REFERENCES ticket (ticket_id)
+);
+
+CREATE TABLE IF NOT EXISTS reply (
+    reply_id              VARCHAR(255) NOT NULL PRIMARY KEY,
+    created_at            TIMESTAMP(6) WITH TIME ZONE,
+    encrypted_content     VARCHAR(255),
+    reply_ip_address      VARCHAR(255),
+    initialization_vector TEXT,
+    ticket_id             VARCHAR(255) NOT NULL REFERENCES ticket (ticket_id),
+    parent_reply_id       VARCHAR(255) REFERENCES reply (reply_id)
+);
+
+CREATE TABLE IF NOT EXISTS read_log (
+    read_log_id        VARCHAR(255) NOT NULL PRIMARY KEY,
+    read_at            TIMESTAMP(6) WITH TIME ZONE,
+    read_by_ip_address VARCHAR(255),
+    ticket_id          VARCHAR(255) NOT NULL REFERENCES ticket (ticket_id)
+);
+
+CREATE TABLE IF NOT EXISTS api_usage_metrics (
+    api_usage_id VARCHAR(255) NOT NULL PRIMARY KEY,
+    http_method  VARCHAR(255),
+    api_endpoint VARCHAR(255),
+    ticket_type  VARCHAR(255),
+    hit_count    BIGINT
+);
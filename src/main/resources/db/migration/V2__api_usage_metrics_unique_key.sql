@@ -0,0 +1,28 @@
+-- Counter rows used to be created with find-then-save, so concurrent first hits could leave duplicates.
+-- Fold duplicates into the oldest row before enforcing one row per (http_method, api_endpoint, ticket_type).
+
+WITH totals AS (
+    SELECT MIN(api_usage_id) AS keep_id, SUM(hit_count) AS hit_count
+    FROM api_usage_metrics
+    GROUP BY http_method, api_endpoint, ticket_type
+    HAVING COUNT(*) > 1
+)
+UPDATE api_usage_metrics m
+SET hit_count = totals.hit_count
+FROM totals
+WHERE m.api_usage_id = totals.keep_id;
+
+DELETE FROM api_usage_metrics m
+USING api_usage_metrics k
+WHERE m.http_method IS NOT DISTINCT FROM k.http_method
+  AND m.api_endpoint IS NOT DISTINCT FROM k.api_endpoint
+  AND m.ticket_type IS NOT DISTINCT FROM k.ticket_type
+  AND m.api_usage_id > k.api_usage_id;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_api_usage_metrics_key') THEN
+        ALTER TABLE api_usage_metrics
+            ADD CONSTRAINT uk_api_usage_metrics_key UNIQUE (http_method, api_endpoint, ticket_type);
+    END IF;
+END $$;
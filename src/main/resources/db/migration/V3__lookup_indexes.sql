@@ -0,0 +1,14 @@
+-- Indexes for the hot lookup paths. Built CONCURRENTLY so large live tables are not write-locked;
+-- this script therefore runs outside a transaction (see V3__lookup_indexes.sql.conf).
+
+-- Every view and reply starts with findByTicketNumber
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS ux_ticket_ticket_number ON ticket (ticket_number);
+
+-- Conversation loading: all replies of a ticket, grouped by parent, in creation order
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_reply_ticket_parent_created ON reply (ticket_id, parent_reply_id, created_at);
+
+-- Passkeys are fetched together with their ticket; foreign keys on PostgreSQL are not indexed implicitly
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_passkey_ticket ON passkey (ticket_id);
+
+-- Read logs are removed with their ticket
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_read_log_ticket ON read_log (ticket_id);
@@ -0,0 +1,2 @@
+-- Keyset paging of a conversation orders by (created_at, reply_id) within a ticket
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_reply_ticket_created_id ON reply (ticket_id, created_at, reply_id);
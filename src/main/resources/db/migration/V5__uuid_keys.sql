@@ -0,0 +1,41 @@
+-- Ticket, passkey, reply and read_log keys move from VARCHAR(255) to native uuid (16 bytes, cheaper indexes).
+-- Existing ids are already UUID strings and convert in place; new ids are time-ordered UUIDv7.
+-- ALTER ... TYPE rewrites each table and its indexes under an exclusive lock, so run this in a maintenance window.
+
+-- Foreign keys were created with generated names by ddl-auto=update; drop whatever exists between these tables
+DO $$
+DECLARE
+    fk RECORD;
+BEGIN
+    FOR fk IN
+        SELECT conrelid::regclass AS table_name, conname
+        FROM pg_constraint
+        WHERE contype = 'f'
+          AND conrelid IN ('ticket'::regclass, 'passkey'::regclass, 'reply'::regclass, 'read_log'::regclass)
+    LOOP
+        EXECUTE format('ALTER TABLE %s DROP CONSTRAINT %I', fk.table_name, fk.conname);
+    END LOOP;
+END $$;
+
+ALTER TABLE ticket
+    ALTER COLUMN ticket_id TYPE uuid USING ticket_id::uuid,
+    ALTER COLUMN parent_ticket_id TYPE uuid USING parent_ticket_id::uuid;
+
+ALTER TABLE passkey
+    ALTER COLUMN passkey_id TYPE uuid USING passkey_id::uuid,
+    ALTER COLUMN ticket_id TYPE uuid USING ticket_id::uuid;
+
+ALTER TABLE reply
+    ALTER COLUMN reply_id TYPE uuid USING reply_id::uuid,
+    ALTER COLUMN ticket_id TYPE uuid USING ticket_id::uuid,
+    ALTER COLUMN parent_reply_id TYPE uuid USING parent_reply_id::uuid;
+
+ALTER TABLE read_log
+    ALTER COLUMN read_log_id TYPE uuid USING read_log_id::uuid,
+    ALTER COLUMN ticket_id TYPE uuid USING ticket_id::uuid;
+
+ALTER TABLE ticket ADD CONSTRAINT fk_ticket_parent_ticket FOREIGN KEY (parent_ticket_id) REFERENCES ticket (ticket_id);
+ALTER TABLE passkey ADD CONSTRAINT fk_passkey_ticket FOREIGN KEY (ticket_id) REFERENCES ticket (ticket_id);
+ALTER TABLE reply ADD CONSTRAINT fk_reply_ticket FOREIGN KEY (ticket_id) REFERENCES ticket (ticket_id);
+ALTER TABLE reply ADD CONSTRAINT fk_reply_parent_reply FOREIGN KEY (parent_reply_id) REFERENCES reply (reply_id);
+ALTER TABLE read_log ADD CONSTRAINT fk_read_log_ticket FOREIGN KEY (ticket_id) REFERENCES ticket (ticket_id);
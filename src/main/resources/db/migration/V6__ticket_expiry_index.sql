@@ -0,0 +1,2 @@
+-- The expiry sweeper looks up OPEN tickets past expires_at / open_until and terminal tickets by status
+CREATE INDEX CONCURRENTLY IF NOT EXISTS ix_ticket_status_expiry ON ticket (ticket_status, expires_at, open_until);
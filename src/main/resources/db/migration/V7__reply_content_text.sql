@@ -0,0 +1,3 @@
+-- Reply ciphertext is base64 of the content plus its GCM tag; VARCHAR(255) capped replies at roughly 170 characters.
+-- varchar -> text is binary compatible in PostgreSQL, so the table is not rewritten.
+ALTER TABLE reply ALTER COLUMN encrypted_content TYPE TEXT;
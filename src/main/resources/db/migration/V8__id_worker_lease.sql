@@ -0,0 +1,14 @@
+-- Snowflake worker ids (0-1023) are leased by running instances instead of being configured by hand.
+-- A lease is renewed by heartbeats; once leased_until has passed (plus a grace period) another instance may take it.
+
+CREATE TABLE IF NOT EXISTS id_worker_lease (
+    worker_id    INTEGER NOT NULL PRIMARY KEY,
+    instance_id  VARCHAR(255),
+    leased_until TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    heartbeat_at TIMESTAMP(6) WITH TIME ZONE
+);
+
+INSERT INTO id_worker_lease (worker_id, leased_until)
+SELECT worker_id, 'epoch'::timestamptz
+FROM generate_series(0, 1023) AS worker_id
+ON CONFLICT (worker_id) DO NOTHING;
@@ -0,0 +1,22 @@
+-- Replies get a compact Snowflake id (reply_seq) issued by the instance that stores them; conversations page by it.
+-- Existing rows are backfilled in created_at order with the same layout: milliseconds since 2021-01-01 in the high bits,
+-- a per-millisecond counter in the 22 worker + sequence bits. Live ids come later in time, so they cannot collide.
+-- The backfill rewrites the reply table, so run this in a maintenance window like V5.
+ALTER TABLE reply ADD COLUMN IF NOT EXISTS reply_seq BIGINT;
+
+WITH numbered AS (
+    SELECT reply_id,
+           (floor(extract(epoch FROM created_at) * 1000)::BIGINT - 1609459200000) AS millis,
+           row_number() OVER (PARTITION BY floor(extract(epoch FROM created_at) * 1000) ORDER BY reply_id) - 1 AS counter
+    FROM reply
+    WHERE reply_seq IS NULL
+)
+UPDATE reply r
+SET reply_seq = (n.millis << 22) | n.counter
+FROM numbered n
+WHERE r.reply_id = n.reply_id;
+
+ALTER TABLE reply ALTER COLUMN reply_seq SET NOT NULL;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_reply_ticket_seq ON reply (ticket_id, reply_seq);
+DROP INDEX IF EXISTS ix_reply_ticket_created_id;
@@ -0,0 +1,124 @@
+package com.secure.MsgX.features.utility.accessUtil;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ViewSlotReservationsTest {
+
+    private static final int THREADS = 32;
+
+    @Test
+    void slotsAreUniqueAndNeverExceedTheGrantedTotal() throws Exception {
+        Map<String, Long> maxViews = Map.of("hot", 1_003L, "warm", 250L, "cold", 7L);
+        FakeSlotSource slotSource = new FakeSlotSource(maxViews);
+        ViewSlotReservations reservations = new ViewSlotReservations(slotSource, 10);
+        Map<String, Set<Long>> claimed = new ConcurrentHashMap<>();
+        maxViews.keySet().forEach(ticketId -> claimed.put(ticketId, ConcurrentHashMap.newKeySet()));
+        List<String> ticketIds = List.copyOf(maxViews.keySet());
+
+        runConcurrently(threadIndex -> {
+            String ticketId = ticketIds.get(threadIndex % ticketIds.size());
+            long slot;
+            while ((slot = reservations.claim(ticketId)) != -1) {
+                assertTrue(claimed.get(ticketId).add(slot), "slot " + slot + " of " + ticketId + " handed out twice");
+            }
+        });
+
+        maxViews.forEach((ticketId, max) -> {
+            Set<Long> slots = claimed.get(ticketId);
+            assertEquals(max, slots.size());
+            assertTrue(slots.stream().allMatch(slot -> slot >= 1 && slot <= max), "slot outside 1.." + max + " for " + ticketId);
+            assertEquals(max, slotSource.counts.get(ticketId));
+        });
+    }
+
+    @Test
+    void releasedBlockIsNotServedAgain() throws Exception {
+        FakeSlotSource slotSource = new FakeSlotSource(Map.of("hot", 100L));
+        ViewSlotReservations reservations = new ViewSlotReservations(slotSource, 10);
+        Set<Long> claimed = ConcurrentHashMap.newKeySet();
+        AtomicInteger claims = new AtomicInteger();
+
+        runConcurrently(threadIndex -> {
+            long slot;
+            while ((slot = reservations.claim("hot")) != -1) {
+                assertTrue(claimed.add(slot), "slot " + slot + " handed out twice");
+                if (claims.incrementAndGet() % 25 == 0) {
+                    reservations.release("hot");
+                }
+            }
+        });
+
+        // Slots of a dropped block are lost, never reissued
+        assertTrue(claimed.size() <= 100);
+        assertTrue(claimed.stream().allMatch(slot -> slot >= 1 && slot <= 100));
+        assertEquals(100L, slotSource.counts.get("hot"));
+    }
+
+    /**
+     * Mirrors the conditional update: grants up to blockSize slots atomically and never past max_views.
+     */
+    private static final class FakeSlotSource implements ViewSlotReservations.SlotSource {
+        private final Map<String, Long> maxViews;
+        private final Map<String, Long> counts = new ConcurrentHashMap<>();
+
+        private FakeSlotSource(Map<String, Long> maxViews) {
+            this.maxViews = maxViews;
+        }
+
+        @Override
+        public long[] reserve(String ticketId, long blockSize) {
+            long[] grant = new long[2];
+            counts.compute(ticketId, (id, count) -> {
+                long previous = count == null ? 0 : count;
+                grant[0] = previous;
+                grant[1] = Math.min(previous + blockSize, maxViews.get(id));
+                return grant[1];
+            });
+            // Widen the window in which other threads race for the same block
+            Thread.yield();
+            return grant[1] > grant[0] ? grant : null;
+        }
+    }
+
+    private static void runConcurrently(ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startGate = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int threadIndex = t;
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    task.run(threadIndex);
+                    return null;
+                }));
+            }
+            startGate.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int threadIndex) throws Exception;
+    }
+}
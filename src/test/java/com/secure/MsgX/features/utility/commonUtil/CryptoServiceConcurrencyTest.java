@@ -0,0 +1,90 @@
+package com.secure.MsgX.features.utility.commonUtil;
+
+import com.secure.MsgX.core.enums.EncryptionAlgo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CryptoServiceConcurrencyTest {
+
+    private static final int THREADS = 64;
+    private static final int MESSAGES_PER_THREAD = 200;
+
+    private final CryptoService cryptoService = new CryptoService();
+
+    @Test
+    void sharedKeyRoundTripsUnderHighParallelism() throws Exception {
+        for (EncryptionAlgo algorithm : EncryptionAlgo.values()) {
+            DerivedKey key = cryptoService.deriveKey(List.of("alpha", "beta"), "stress-salt", algorithm);
+            Set<String> ivs = ConcurrentHashMap.newKeySet();
+
+            runConcurrently(THREADS, threadIndex -> {
+                for (int i = 0; i < MESSAGES_PER_THREAD; i++) {
+                    String plainText = algorithm + "-" + threadIndex + "-" + i;
+                    SealedEnvelope envelope = cryptoService.encryptContent(plainText, key);
+
+                    assertEquals(algorithm, envelope.algorithm());
+                    assertEquals(SealedEnvelope.CURRENT_VERSION, envelope.version());
+                    assertTrue(ivs.add(envelope.iv()), "IV reused across concurrent encryptions");
+                    assertEquals(plainText, cryptoService.decryptContent(envelope.cipherText(), envelope.iv(), key));
+                }
+            });
+
+            assertEquals(THREADS * MESSAGES_PER_THREAD, ivs.size());
+        }
+    }
+
+    @Test
+    void passkeyPathRoundTripsUnderParallelism() throws Exception {
+        int threads = 16;
+
+        runConcurrently(threads, threadIndex -> {
+            List<String> passkeys = List.of("key-" + threadIndex, "second-" + threadIndex);
+            String salt = "salt-" + threadIndex;
+            EncryptionAlgo algorithm = EncryptionAlgo.values()[threadIndex % EncryptionAlgo.values().length];
+            String plainText = "message for thread " + threadIndex;
+
+            SealedEnvelope envelope = cryptoService.encryptContent(plainText, passkeys, salt, algorithm);
+
+            assertEquals(plainText, cryptoService.decryptContent(envelope.cipherText(), passkeys, salt, envelope.iv(), algorithm));
+        });
+    }
+
+    private static void runConcurrently(int threads, ThreadTask task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch startGate = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int threadIndex = t;
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    task.run(threadIndex);
+                    return null;
+                }));
+            }
+            startGate.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask {
+        void run(int threadIndex) throws Exception;
+    }
+}
@@ -0,0 +1,146 @@
+package com.secure.MsgX.features.utility.commonUtil;
+
+import com.secure.MsgX.core.entity.Passkey;
+import com.secure.MsgX.core.entity.Ticket;
+import com.secure.MsgX.core.enums.EncryptionAlgo;
+import com.secure.MsgX.core.enums.TicketType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DerivedKeyCacheTest {
+
+    private static final List<String> PASSKEYS = List.of("alpha", "beta");
+
+    private final DerivedKeyCache cache = new DerivedKeyCache(true, 100, Duration.ofMinutes(5),
+            Set.of(TicketType.BROADCAST), new SimpleMeterRegistry());
+
+    private final AtomicInteger derivations = new AtomicInteger();
+
+    @Test
+    void concurrentMissesShareOneDerivation() throws Exception {
+        Ticket ticket = ticket("t-1", "hash-1");
+        int threads = 32;
+        CountDownLatch startGate = new CountDownLatch(1);
+        CountDownLatch releaseDerivation = new CountDownLatch(1);
+        Supplier<DerivedKey> slowDerivation = () -> {
+            try {
+                // Hold the first derivation open until every thread has asked for the key
+                assertTrue(releaseDerivation.await(10, TimeUnit.SECONDS));
+            }
+            catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return derive();
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<DerivedKey>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    return cache.getOrDerive(ticket, PASSKEYS, slowDerivation);
+                }));
+            }
+            startGate.countDown();
+            Thread.sleep(200);
+            releaseDerivation.countDown();
+
+            DerivedKey first = futures.get(0).get();
+            for (Future<DerivedKey> future : futures) {
+                assertSame(first, future.get());
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, derivations.get());
+    }
+
+    @Test
+    void differentPasskeysOrHashesAreMisses() {
+        Ticket ticket = ticket("t-1", "hash-1");
+        DerivedKey original = cache.getOrDerive(ticket, PASSKEYS, this::derive);
+
+        assertSame(original, cache.getOrDerive(ticket, PASSKEYS, this::derive));
+        assertNotSame(original, cache.getOrDerive(ticket, List.of("alpha", "wrong"), this::derive));
+        assertNotSame(original, cache.getOrDerive(ticket("t-1", "rotated-hash"), PASSKEYS, this::derive));
+        assertEquals(3, derivations.get());
+    }
+
+    @Test
+    void evictTicketDropsEveryEntryOfThatTicket() {
+        Ticket ticket = ticket("t-1", "hash-1");
+        Ticket other = ticket("t-2", "hash-1");
+        cache.getOrDerive(ticket, PASSKEYS, this::derive);
+        cache.getOrDerive(ticket, List.of("gamma"), this::derive);
+        DerivedKey otherKey = cache.getOrDerive(other, PASSKEYS, this::derive);
+
+        cache.evictTicket("t-1");
+
+        cache.getOrDerive(ticket, PASSKEYS, this::derive);
+        cache.getOrDerive(ticket, List.of("gamma"), this::derive);
+        assertSame(otherKey, cache.getOrDerive(other, PASSKEYS, this::derive));
+        assertEquals(5, derivations.get());
+    }
+
+    @Test
+    void ttlIsCappedAtExpiryAndAccessWindow() {
+        Ticket expired = ticket("t-1", "hash-1");
+        expired.setExpiresAt(Instant.now().minusSeconds(1));
+        cache.getOrDerive(expired, PASSKEYS, this::derive);
+        cache.getOrDerive(expired, PASSKEYS, this::derive);
+        assertEquals(2, derivations.get());
+
+        Ticket closed = ticket("t-2", "hash-1");
+        closed.setOpenUntil(Instant.now().minusSeconds(1));
+        cache.getOrDerive(closed, PASSKEYS, this::derive);
+        cache.getOrDerive(closed, PASSKEYS, this::derive);
+        assertEquals(4, derivations.get());
+
+        Ticket open = ticket("t-3", "hash-1");
+        open.setExpiresAt(Instant.now().plus(Duration.ofDays(1)));
+        cache.getOrDerive(open, PASSKEYS, this::derive);
+        cache.getOrDerive(open, PASSKEYS, this::derive);
+        assertEquals(5, derivations.get());
+    }
+
+    private DerivedKey derive() {
+        derivations.incrementAndGet();
+        return new DerivedKey(new SecretKeySpec(new byte[32], "AES"), EncryptionAlgo.AES_256);
+    }
+
+    private static Ticket ticket(String ticketId, String passkeyHash) {
+        Ticket ticket = new Ticket();
+        ticket.setTicketId(ticketId);
+        ticket.setTicketType(TicketType.BROADCAST);
+        ticket.setEncryptionAlgo(EncryptionAlgo.AES_256);
+        ticket.setSalt("salt");
+
+        Passkey passkey = new Passkey();
+        passkey.setPasskeyHash(passkeyHash);
+        passkey.setKeyOrder(1);
+        passkey.setTicket(ticket);
+        ticket.setPasskeys(List.of(passkey));
+        return ticket;
+    }
+}
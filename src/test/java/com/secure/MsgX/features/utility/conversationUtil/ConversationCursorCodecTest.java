@@ -0,0 +1,69 @@
+package com.secure.MsgX.features.utility.conversationUtil;
+
+import com.secure.MsgX.core.exceptions.GlobalMsgXExceptions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ConversationCursorCodecTest {
+
+    private static final String SECRET = "a-shared-secret-of-at-least-32-bytes";
+    private static final String TICKET_ID = UUID.randomUUID().toString();
+
+    private final ConversationCursorCodec codec = new ConversationCursorCodec(SECRET);
+    private final ConversationCursor cursor = new ConversationCursor(1_234_567_890_123_456_789L);
+
+    @Test
+    void issuedCursorRoundTripsOnEveryInstanceWithTheSameSecret() {
+        String token = codec.encode(TICKET_ID, cursor);
+
+        assertEquals(cursor, codec.decode(TICKET_ID, token));
+        assertEquals(cursor, new ConversationCursorCodec(SECRET).decode(TICKET_ID, token));
+        assertFalse(token.contains(TICKET_ID));
+    }
+
+    @Test
+    void rejectsCursorsNotIssuedForTheTicket() {
+        String token = codec.encode(TICKET_ID, cursor);
+        String forged = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("0".getBytes(StandardCharsets.UTF_8));
+        String resigned = forged + token.substring(token.indexOf('.'));
+
+        assertThrows(GlobalMsgXExceptions.class, () -> codec.decode(UUID.randomUUID().toString(), token));
+        assertThrows(GlobalMsgXExceptions.class, () -> new ConversationCursorCodec("another-secret").decode(TICKET_ID, token));
+        assertThrows(GlobalMsgXExceptions.class, () -> codec.decode(TICKET_ID, forged));
+        assertThrows(GlobalMsgXExceptions.class, () -> codec.decode(TICKET_ID, resigned));
+        assertThrows(GlobalMsgXExceptions.class, () -> codec.decode(TICKET_ID, "not a cursor"));
+    }
+
+    @Test
+    void pooledMacsSignTheSameUnderConcurrency() throws Exception {
+        String expected = codec.encode(TICKET_ID, cursor);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(16)) {
+            List<Future<?>> results = IntStream.range(0, 16)
+                    .<Future<?>>mapToObj(thread -> executor.submit(() -> {
+                        for (int i = 0; i < 500; i++) {
+                            ConversationCursor next = new ConversationCursor(thread * 1_000L + i);
+                            assertEquals(next, codec.decode(TICKET_ID, codec.encode(TICKET_ID, next)));
+                            assertEquals(expected, codec.encode(TICKET_ID, cursor));
+                        }
+                    }))
+                    .toList();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.secure.MsgX.features.utility.ticketCreateUtil;
+
+import com.secure.MsgX.features.utility.ticketCreateUtil.UniqueIdGenerators.SnowflakeIdGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long EPOCH = 1609459200000L;
+
+    @Test
+    void uniqueAcrossThreadsAndCarriesMachineId() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(42L);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 16; t++) {
+                futures.add(executor.submit(() -> {
+                    long previous = 0;
+                    for (int i = 0; i < 20_000; i++) {
+                        long id = generator.generateId();
+                        assertTrue(id > previous, "ids went backwards");
+                        assertTrue(ids.add(id), "duplicate id " + id);
+                        assertEquals(42L, (id >>> 12) & 0x3FF);
+                        previous = id;
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+        assertEquals(16 * 20_000, ids.size());
+    }
+
+    @Test
+    void smallRollbackWaitsForTheClockInsteadOfRepeatingIds() {
+        // The fake clock advances by one millisecond per read, so the generator's wait ends after a few reads
+        AtomicLong clock = new AtomicLong(EPOCH + 10_000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1L, 1000L, clock::getAndIncrement);
+        long before = generator.generateId();
+
+        clock.addAndGet(-5);
+        long after = generator.generateId();
+
+        assertTrue(after > before);
+        assertEquals(before >>> 22, after >>> 22, "id should stay on the last issued millisecond");
+        assertTrue(clock.get() - EPOCH >= before >>> 22, "id returned before the clock caught up");
+    }
+
+    @Test
+    void largeRollbackIsRefused() {
+        AtomicLong clock = new AtomicLong(EPOCH + 10_000);
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1L, 1000L, clock::get);
+        generator.generateId();
+
+        clock.addAndGet(-5_000);
+
+        assertThrows(IllegalStateException.class, generator::generateId);
+    }
+}
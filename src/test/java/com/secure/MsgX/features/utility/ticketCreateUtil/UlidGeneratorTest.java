@@ -0,0 +1,77 @@
+package com.secure.MsgX.features.utility.ticketCreateUtil;
+
+import com.secure.MsgX.features.utility.ticketCreateUtil.UniqueIdGenerators.UlidGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UlidGeneratorTest {
+
+    private static final String CROCKFORD = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+    private static final int THREADS = 64;
+    private static final int IDS_PER_THREAD = 10_000;
+
+    @Test
+    void encodesCrockfordBase32() {
+        assertEquals("00000000000000000000000000", UlidGenerator.encode(0L, 0L, 0L));
+        assertEquals("7ZZZZZZZZZZZZZZZZZZZZZZZZZ", UlidGenerator.encode(0xFFFFFFFFFFFFL, 0xFFFFL, -1L));
+        assertEquals("01ARZ3NDEK0000000000000001", UlidGenerator.encode(1469922850259L, 0L, 1L));
+        assertEquals("0000000000000000000000000G", UlidGenerator.encode(0L, 0L, 16L));
+        assertEquals("0000000000000G000000000000", UlidGenerator.encode(0L, 1L, 0L));
+    }
+
+    @Test
+    void carriesTheCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        String ulid = UlidGenerator.generateUlid();
+
+        assertEquals(26, ulid.length());
+        long millis = 0;
+        for (int i = 0; i < 10; i++) {
+            millis = (millis << 5) | CROCKFORD.indexOf(ulid.charAt(i));
+        }
+        assertTrue(millis >= before && millis <= System.currentTimeMillis() + 1000, "unexpected timestamp " + millis);
+    }
+
+    @Test
+    void uniqueAndMonotonicAcrossThreads() throws Exception {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startGate = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    String previous = "";
+                    for (int i = 0; i < IDS_PER_THREAD; i++) {
+                        String ulid = UlidGenerator.generateUlid();
+                        assertTrue(ulid.compareTo(previous) > 0, "ULIDs went backwards: " + previous + " then " + ulid);
+                        assertTrue(ids.add(ulid), "duplicate ULID " + ulid);
+                        previous = ulid;
+                    }
+                    return null;
+                }));
+            }
+            startGate.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(THREADS * IDS_PER_THREAD, ids.size());
+    }
+}